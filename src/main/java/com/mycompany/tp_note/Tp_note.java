@@ -11,9 +11,13 @@ package com.mycompany.tp_note;
 
 import com.mycompany.tp_note.data.DictionaryWordProvider;
 import com.mycompany.tp_note.data.ManualWordProvider;
+import com.mycompany.tp_note.data.MappedDictionaryWordProvider;
+import com.mycompany.tp_note.data.SharedDictionary;
 import com.mycompany.tp_note.data.WordProvider;
+import com.mycompany.tp_note.engine.EvilHangmanGame;
 import com.mycompany.tp_note.engine.GameController;
 import com.mycompany.tp_note.engine.HangmanGame;
+import com.mycompany.tp_note.engine.LetterFolding;
 import com.mycompany.tp_note.UI.ConsoleUI;
 
 import java.io.IOException;
@@ -23,6 +27,9 @@ public class Tp_note {
 
     private static final int MAX_ERRORS = 7;
 
+    /** When {@code true}, two-player secret words must be dictionary words. */
+    public static final String REAL_WORDS_PROPERTY = "tp_note.realWordsOnly";
+
     public static void main(String[] args) {
         Scanner scanner = new Scanner(System.in);
         ConsoleUI ui = new ConsoleUI(scanner);
@@ -30,6 +37,8 @@ public class Tp_note {
         System.out.println("Bienvenue au Jeu du Pendu !");
         System.out.println("1. Mode 1 Joueur (Contre l'ordinateur)");
         System.out.println("2. Mode 2 Joueurs (L'un choisit, l'autre devine)");
+        System.out.println("3. Mode 1 Joueur (Mots français avec accents)");
+        System.out.println("4. Mode 1 Joueur (Pendu diabolique)");
         System.out.print("Choisissez votre mode : ");
 
         int mode = 0;
@@ -43,13 +52,39 @@ public class Tp_note {
         }
 
         WordProvider wordProvider;
+        DictionaryWordProvider evilDictionary = null;
 
         if (mode == 2) {
-            wordProvider = new ManualWordProvider(ui);
+            try {
+                wordProvider = Boolean.getBoolean(REAL_WORDS_PROPERTY)
+                        ? new ManualWordProvider(ui, SharedDictionary.getInstance().current())
+                        : new ManualWordProvider(ui);
+            } catch (IOException e) {
+                System.err.println("Erreur de chargement du dictionnaire : " + e.getMessage());
+                scanner.close();
+                return;
+            }
+        } else if (mode == 3) {
+            try {
+                wordProvider = new DictionaryWordProvider(DictionaryWordProvider.FRENCH_RESOURCE);
+            } catch (IOException e) {
+                System.err.println("Erreur de chargement du dictionnaire : " + e.getMessage());
+                scanner.close();
+                return;
+            }
+        } else if (mode == 4) {
+            try {
+                evilDictionary = SharedDictionary.getInstance().current();
+                wordProvider = evilDictionary;
+            } catch (IOException e) {
+                System.err.println("Erreur de chargement du dictionnaire : " + e.getMessage());
+                scanner.close();
+                return;
+            }
         } else {
             // Default to mode 1
             try {
-                wordProvider = new DictionaryWordProvider();
+                wordProvider = openDictionary();
             } catch (IOException e) {
                 System.err.println("Erreur de chargement du dictionnaire : " + e.getMessage());
                 scanner.close();
@@ -66,8 +101,9 @@ public class Tp_note {
             return;
         }
 
-        // Basic validation in case of empty input
-        if (secretWord.isEmpty() || !secretWord.matches("[a-zA-Z]+")) {
+        // Basic validation in case of empty input (accented letters are fine);
+        // an empty word also means it was refused by the dictionary check
+        if (!LetterFolding.isValidWord(secretWord)) {
             if (mode == 2) {
                 System.out.println("Mot invalide. Le jeu va utiliser un mot par défaut: PENDU");
             }
@@ -91,10 +127,31 @@ public class Tp_note {
             }
         }
 
-        HangmanGame game = new HangmanGame(secretWord, maxErrors);
+        // in evil mode the word only fixes the length, the computer never commits to one
+        HangmanGame game = evilDictionary != null
+                ? new EvilHangmanGame(evilDictionary, secretWord.length(), maxErrors)
+                : new HangmanGame(secretWord, maxErrors);
         GameController controller = new GameController(game, ui);
         controller.startGame();
 
         scanner.close();
     }
+
+    /**
+     * Prefers the precompiled dictionary, mapped instead of parsed, unless
+     * an external dictionary file is configured: that one is served by the
+     * shared, hot-reloadable dictionary, which is also the fallback when
+     * the build did not produce {@code dictionary.bin}.
+     */
+    private static WordProvider openDictionary() throws IOException {
+        String external = System.getProperty(SharedDictionary.DICTIONARY_PROPERTY);
+        if (external == null || external.isBlank()) {
+            try {
+                return new MappedDictionaryWordProvider();
+            } catch (IOException e) {
+                // not compiled, e.g. when run from the sources
+            }
+        }
+        return SharedDictionary.getInstance();
+    }
 }
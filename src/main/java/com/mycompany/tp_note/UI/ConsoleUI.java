@@ -97,6 +97,8 @@ public class ConsoleUI implements UserInterface {
     };
 
     private final Scanner scanner;
+    /** Last state displayed, shown again after a rejected letter. */
+    private GameState lastState;
 
     /** Creates a ConsoleUI reading from standard input. */
     public ConsoleUI() {
@@ -140,10 +142,12 @@ public class ConsoleUI implements UserInterface {
             System.out.println("(Erreur) État du jeu indisponible.");
             return;
         }
+        lastState = state;
 
         System.out.println("\n" + SEPARATOR);
         printHangman(state.getErrorsCount(), state.getMaxErrors());
-        System.out.println("Mot : " + state.getMaskedWord());
+        System.out.print("Mot : ");
+        System.out.println(state.maskedView());
         System.out.println("Erreurs : "
                 + state.getErrorsCount() + "/" + state.getMaxErrors());
         System.out.println("Lettres proposées : "
@@ -198,10 +202,28 @@ public class ConsoleUI implements UserInterface {
     public void displayAlreadyGuessed(char letter) {
         System.out.println(
                 "(!) La lettre '" + letter + "' a déjà été proposée. Essayez une autre.");
+        redisplay();
+    }
+
+    /**
+     * Informs the user that the input is not a letter.
+     *
+     * @param input the rejected character
+     */
+    @Override
+    public void displayInvalidLetter(char input) {
+        System.out.println("(!) '" + input + "' n'est pas une lettre. Essayez une autre.");
+        redisplay();
     }
 
     /* -------------------- Helper methods -------------------- */
 
+    private void redisplay() {
+        if (lastState != null) {
+            displayGameState(lastState);
+        }
+    }
+
     private static boolean isValidLetter(String input) {
         return input.length() == 1 && Character.isLetter(input.charAt(0));
     }
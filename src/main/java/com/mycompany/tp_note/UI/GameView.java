@@ -0,0 +1,39 @@
+package com.mycompany.tp_note.UI;
+
+import com.mycompany.tp_note.engine.GameState;
+
+/**
+ * Output side of a user interface: what a game shows, without asking
+ * anything. Front ends receiving letters on their own (network servers)
+ * only implement this, and drive the game with
+ * {@link com.mycompany.tp_note.engine.GameController#play(char)}.
+ */
+public interface GameView {
+    /**
+     * Display the current state of the game.
+     * 
+     * @param state The game state.
+     */
+    void displayGameState(GameState state);
+
+    /**
+     * Display the end game message.
+     * 
+     * @param state The final game state.
+     */
+    void displayEndGame(GameState state);
+
+    /**
+     * Display a message stating the letter was already guessed.
+     * 
+     * @param letter The letter.
+     */
+    void displayAlreadyGuessed(char letter);
+
+    /**
+     * Display a message stating the input is not a playable letter.
+     * 
+     * @param input The rejected character.
+     */
+    void displayInvalidLetter(char input);
+}
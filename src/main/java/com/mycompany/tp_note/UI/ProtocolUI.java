@@ -0,0 +1,89 @@
+package com.mycompany.tp_note.UI;
+
+import com.mycompany.tp_note.engine.GameState;
+
+/**
+ * Text-protocol view for network clients.
+ * <p>
+ * Every display call appends one line to an output buffer, which the
+ * transport sends to the client:
+ * </p>
+ * <ul>
+ * <li>{@code STATE <masked> <errors> <maxErrors> <status> <guessed>}, e.g.
+ * {@code STATE _A_A 1 7 PLAYING AZ} ({@code -} when nothing is guessed);</li>
+ * <li>{@code ALREADY <letter>} for a repeated letter;</li>
+ * <li>{@code ERR expected one letter} for a character that is not one;</li>
+ * <li>{@code END <WON|LOST> <secret word>} when the game is over.</li>
+ * </ul>
+ * <p>
+ * Input is pushed by the transport (see
+ * {@link com.mycompany.tp_note.engine.GameController#play(char)}), so this
+ * is only a {@link GameView}.
+ * </p>
+ */
+public class ProtocolUI implements GameView {
+
+    private final StringBuilder out;
+
+    /**
+     * Creates a UI writing its lines to the given buffer.
+     *
+     * @param out the output buffer, drained by the transport
+     */
+    public ProtocolUI(StringBuilder out) {
+        this.out = out;
+    }
+
+    /**
+     * Appends the {@code STATE} line of a game.
+     *
+     * @param state the game state
+     * @param out   the output buffer
+     */
+    public static void appendState(GameState state, StringBuilder out) {
+        out.append("STATE ");
+        CharSequence masked = state.maskedView();
+        for (int i = 0; i < masked.length(); i += 2) {
+            out.append(masked.charAt(i));
+        }
+        out.append(' ').append(state.getErrorsCount())
+                .append(' ').append(state.getMaxErrors())
+                .append(' ').append(state.getCurrentStatus())
+                .append(' ');
+        int guessed = state.guessedMask();
+        if (guessed == 0 && !state.hasOtherGuessedLetters()) {
+            out.append('-');
+        }
+        for (; guessed != 0; guessed &= guessed - 1) {
+            out.append((char) ('A' + Integer.numberOfTrailingZeros(guessed)));
+        }
+        if (state.hasOtherGuessedLetters()) {
+            for (char c : state.getGuessedLetters()) {
+                if (c < 'A' || c > 'Z') {
+                    out.append(c);
+                }
+            }
+        }
+        out.append('\n');
+    }
+
+    @Override
+    public void displayGameState(GameState state) {
+        appendState(state, out);
+    }
+
+    @Override
+    public void displayEndGame(GameState state) {
+        out.append("END ").append(state.getCurrentStatus()).append(' ').append(state.getSecretWord()).append('\n');
+    }
+
+    @Override
+    public void displayAlreadyGuessed(char letter) {
+        out.append("ALREADY ").append(letter).append('\n');
+    }
+
+    @Override
+    public void displayInvalidLetter(char input) {
+        out.append("ERR expected one letter\n");
+    }
+}
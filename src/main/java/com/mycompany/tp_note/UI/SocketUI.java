@@ -0,0 +1,248 @@
+package com.mycompany.tp_note.UI;
+
+import com.mycompany.tp_note.engine.GameState;
+import com.mycompany.tp_note.engine.LetterFolding;
+
+import java.io.BufferedInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.concurrent.CancellationException;
+
+/**
+ * Blocking network user interface: the {@link ProtocolUI} line protocol
+ * over a socket's streams, for a {@link com.mycompany.tp_note.engine.GameController}
+ * running its {@code startGame()} loop on a thread of its own.
+ * <p>
+ * {@link #askForLetter()} blocks until the client sends {@code GUESS <letter>},
+ * answering {@code STATE} and invalid commands meanwhile. Output is
+ * buffered and written before blocking on input, so pipelined commands
+ * are answered in one write, or once {@value #FLUSH_BYTES} bytes of
+ * answers are pending: a client pipelining without reading its answers
+ * then blocks the writes, instead of growing the buffer. Between games,
+ * {@link #awaitNewGame(int)} waits for {@code NEW [maxErrors]}, and
+ * {@link #askForSecretWord()} lets a client choose the word of a
+ * two-player game with {@code WORD <word>}.
+ * </p>
+ * <p>
+ * While a game is played, {@code QUIT} or a closed connection makes
+ * {@code askForLetter()} throw an {@link UncheckedIOException}, and
+ * {@code NEW} a {@link CancellationException}; the game is abandoned and
+ * the next {@code awaitNewGame} call returns the new game's error limit.
+ * </p>
+ */
+public class SocketUI extends ProtocolUI implements UserInterface {
+
+    /** Longest accepted command line, in bytes. */
+    public static final int MAX_LINE_BYTES = 256;
+    /** Pending answers written even while more commands are waiting. */
+    static final int FLUSH_BYTES = 8192;
+
+    private final InputStream in;
+    private final OutputStream out;
+    private final StringBuilder buffer;
+    private final byte[] line = new byte[MAX_LINE_BYTES];
+    private GameState current;
+    private String pendingNew;
+
+    /**
+     * Creates a UI over a connection's streams.
+     *
+     * @param in  the client's commands
+     * @param out the client's answers
+     */
+    public SocketUI(InputStream in, OutputStream out) {
+        this(in, out, new StringBuilder(64));
+    }
+
+    private SocketUI(InputStream in, OutputStream out, StringBuilder buffer) {
+        super(buffer);
+        this.in = new BufferedInputStream(in);
+        this.out = out;
+        this.buffer = buffer;
+    }
+
+    /**
+     * Waits for the client to start a game, answering the other commands.
+     *
+     * @param defaultMaxErrors the error limit of {@code NEW} without argument
+     * @return the requested error limit
+     * @throws IOException if the client quits or the connection fails
+     */
+    public int awaitNewGame(int defaultMaxErrors) throws IOException {
+        while (true) {
+            String argument = pendingNew;
+            pendingNew = null;
+            if (argument == null) {
+                String command = readCommand();
+                String verb = verb(command);
+                if (!verb.equals("NEW")) {
+                    if (verb.equals("GUESS")) {
+                        buffer.append(current == null ? "ERR no game, send NEW\n" : "ERR game over, send NEW\n");
+                    } else {
+                        answer(verb);
+                    }
+                    continue;
+                }
+                argument = argument(command);
+            }
+            try {
+                return argument.isEmpty() ? defaultMaxErrors : Integer.parseInt(argument);
+            } catch (NumberFormatException e) {
+                buffer.append("ERR invalid max errors\n");
+            }
+        }
+    }
+
+    /**
+     * Sends an error line to the client.
+     *
+     * @param message the error message
+     */
+    public void sendError(String message) {
+        buffer.append("ERR ").append(message).append('\n');
+    }
+
+    @Override
+    public void displayGameState(GameState state) {
+        current = state;
+        super.displayGameState(state);
+    }
+
+    @Override
+    public void displayEndGame(GameState state) {
+        current = state;
+        super.displayEndGame(state);
+    }
+
+    @Override
+    public char askForLetter() {
+        try {
+            while (true) {
+                String command = readCommand();
+                String verb = verb(command);
+                if (verb.equals("GUESS")) {
+                    String argument = argument(command);
+                    if (argument.codePointCount(0, argument.length()) == 1 && Character.isLetter(argument.charAt(0))) {
+                        return argument.charAt(0);
+                    }
+                    buffer.append("ERR expected one letter\n");
+                } else if (verb.equals("NEW")) {
+                    pendingNew = argument(command);
+                    throw new CancellationException("New game requested.");
+                } else {
+                    answer(verb);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Blocks until the client sends {@code WORD <word>}, answering
+     * {@code STATE} and {@code QUIT} meanwhile. Words that cannot be played
+     * are refused with {@code ERR invalid word}.
+     *
+     * @return the secret word, as sent
+     * @throws UncheckedIOException if the client quits or the connection fails
+     */
+    @Override
+    public String askForSecretWord() {
+        try {
+            while (true) {
+                String command = readCommand();
+                String verb = verb(command);
+                if (verb.equals("WORD")) {
+                    String word = argument(command);
+                    if (LetterFolding.isValidWord(word)) {
+                        return word;
+                    }
+                    buffer.append("ERR invalid word\n");
+                } else if (verb.equals("STATE") || verb.equals("QUIT")) {
+                    answer(verb);
+                } else {
+                    buffer.append("ERR expected WORD <word>\n");
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /** Answers the commands valid at any time: {@code STATE} and {@code QUIT}. */
+    private void answer(String verb) throws IOException {
+        switch (verb) {
+            case "STATE" -> {
+                if (current == null) {
+                    buffer.append("ERR no game, send NEW\n");
+                } else {
+                    appendState(current, buffer);
+                }
+            }
+            case "QUIT" -> {
+                buffer.append("BYE\n");
+                flush();
+                throw new EOFException("Client quit.");
+            }
+            default -> buffer.append("ERR unknown command\n");
+        }
+    }
+
+    /**
+     * Writes the buffered answers to the client.
+     *
+     * @throws IOException if the connection fails
+     */
+    public void flush() throws IOException {
+        if (buffer.length() > 0) {
+            out.write(buffer.toString().getBytes(StandardCharsets.UTF_8));
+            buffer.setLength(0);
+            out.flush();
+        }
+    }
+
+    /**
+     * Reads the next command line, trimmed, flushing the answers first
+     * unless more input is already waiting and few answers are pending.
+     */
+    private String readCommand() throws IOException {
+        while (true) {
+            if (in.available() == 0 || buffer.length() >= FLUSH_BYTES) {
+                flush();
+            }
+            int length = 0;
+            boolean tooLong = false;
+            int b;
+            while ((b = in.read()) != '\n') {
+                if (b < 0) {
+                    throw new EOFException("Connection closed.");
+                }
+                if (length < line.length) {
+                    line[length++] = (byte) b;
+                } else {
+                    tooLong = true;
+                }
+            }
+            if (tooLong) {
+                buffer.append("ERR line too long\n");
+                continue;
+            }
+            return new String(line, 0, length, StandardCharsets.UTF_8).trim();
+        }
+    }
+
+    private static String verb(String command) {
+        int space = command.indexOf(' ');
+        return (space < 0 ? command : command.substring(0, space)).toUpperCase(Locale.ROOT);
+    }
+
+    private static String argument(String command) {
+        int space = command.indexOf(' ');
+        return space < 0 ? "" : command.substring(space + 1).trim();
+    }
+}
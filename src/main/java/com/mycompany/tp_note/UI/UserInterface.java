@@ -1,18 +1,10 @@
 package com.mycompany.tp_note.UI;
 
-import com.mycompany.tp_note.engine.GameState;
-
 /**
- * Interface defining user interaction contracts.
+ * Interface defining user interaction contracts: the {@link GameView}
+ * display, plus the blocking input of the interactive game loop.
  */
-public interface UserInterface {
-    /**
-     * Display the current state of the game.
-     * 
-     * @param state The game state.
-     */
-    void displayGameState(GameState state);
-
+public interface UserInterface extends GameView {
     /**
      * Ask the user for a letter.
      * 
@@ -20,24 +12,10 @@ public interface UserInterface {
      */
     char askForLetter();
 
-    /**
-     * Display the end game message.
-     * 
-     * @param state The final game state.
-     */
-    void displayEndGame(GameState state);
-
     /**
      * Ask for the secret word (for 2-player mode).
      * 
      * @return The secret word.
      */
     String askForSecretWord();
-
-    /**
-     * Display a message stating the letter was already guessed.
-     * 
-     * @param letter The letter.
-     */
-    void displayAlreadyGuessed(char letter);
 }
@@ -0,0 +1,135 @@
+package com.mycompany.tp_note.data;
+
+import com.mycompany.tp_note.engine.LetterFolding;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Compiles a plain-text dictionary into the packed binary format read by
+ * {@link MappedDictionaryWordProvider}.
+ * <p>
+ * Layout (big-endian): {@code MAGIC, VERSION, count, arenaLength},
+ * then {@code count + 1} word offsets into the arena, then the arena itself
+ * (uppercase letters in ISO-8859-1, one byte each, no separators). Word
+ * {@code i} spans {@code [offsets[i], offsets[i + 1])}, so its byte length
+ * is its length in chars.
+ * </p>
+ * <p>
+ * Validation, uppercasing and duplicate removal follow the same rules as
+ * {@link DictionaryWordProvider}, accented words included, so both providers
+ * serve the same words from Latin-1 sources such as the French list. The
+ * one exception is a word with a letter beyond Latin-1 (e.g. {@code Ā} or
+ * a lowercase {@code ÿ}, whose uppercase is {@code Ÿ}): it has no single
+ * byte and is skipped.
+ * </p>
+ */
+public final class DictionaryCompiler {
+
+    /** File signature: "HDIC". */
+    public static final int MAGIC = 0x48444943;
+    public static final int VERSION = 2;
+    /** Size in bytes of the fixed header preceding the offset table. */
+    public static final int HEADER_BYTES = 4 * Integer.BYTES;
+
+    private DictionaryCompiler() {
+    }
+
+    /**
+     * Build entry point: {@code DictionaryCompiler <dictionary.txt> <dictionary.bin>}.
+     *
+     * @param args source text file and target binary file
+     * @throws IOException if the source cannot be read or the target written
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            throw new IllegalArgumentException("Usage: DictionaryCompiler <source.txt> <target.bin>");
+        }
+        Path source = Paths.get(args[0]);
+        Path target = Paths.get(args[1]);
+        if (target.getParent() != null) {
+            Files.createDirectories(target.getParent());
+        }
+        try (BufferedReader reader = Files.newBufferedReader(source, StandardCharsets.UTF_8);
+                OutputStream out = Files.newOutputStream(target)) {
+            int count = compile(reader, out);
+            System.out.println("Compiled " + count + " words into " + target);
+        }
+    }
+
+    /**
+     * Reads one word per line from {@code reader} and writes the packed
+     * dictionary to {@code out}. Invalid lines and duplicates are skipped.
+     *
+     * @param reader the text source
+     * @param out    the binary destination (not closed)
+     * @return the number of words written
+     * @throws IOException if reading or writing fails
+     */
+    public static int compile(BufferedReader reader, OutputStream out) throws IOException {
+        ByteArrayOutputStream arena = new ByteArrayOutputStream();
+        int[] offsets = new int[1024];
+        int count = 0;
+        Set<String> seen = new HashSet<>();
+
+        String line;
+        while ((line = reader.readLine()) != null) {
+            String word = line.trim();
+            if (!isValidWord(word)) {
+                continue;
+            }
+            String upper = word.toUpperCase(Locale.ROOT);
+            if (!isLatin1(upper) || !seen.add(upper)) {
+                continue;
+            }
+            if (count + 1 == offsets.length) {
+                offsets = Arrays.copyOf(offsets, offsets.length * 2);
+            }
+            for (int i = 0; i < upper.length(); i++) {
+                arena.write(upper.charAt(i));
+            }
+            offsets[++count] = arena.size();
+        }
+
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(MAGIC);
+        data.writeInt(VERSION);
+        data.writeInt(count);
+        data.writeInt(arena.size());
+        for (int i = 0; i <= count; i++) {
+            data.writeInt(offsets[i]);
+        }
+        arena.writeTo(data);
+        data.flush();
+        return count;
+    }
+
+    /**
+     * Same acceptance rule as {@link DictionaryLoader}: letters folding to
+     * {@code A-Z}, accented or not.
+     */
+    static boolean isValidWord(String word) {
+        return LetterFolding.isValidWord(word);
+    }
+
+    /** Whether every char fits in one ISO-8859-1 byte. */
+    private static boolean isLatin1(String word) {
+        for (int i = 0; i < word.length(); i++) {
+            if (word.charAt(i) > 0xFF) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
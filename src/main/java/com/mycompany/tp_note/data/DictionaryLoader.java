@@ -0,0 +1,279 @@
+package com.mycompany.tp_note.data;
+
+import com.mycompany.tp_note.engine.GameState;
+import com.mycompany.tp_note.engine.LetterFolding;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Loads word lists from plain files, gzip-compressed files ({@code .gz}) and
+ * directories of such files.
+ * <p>
+ * Every file is read (and decompressed) into memory by its own task, then
+ * split into chunks on line boundaries that are validated and uppercased in
+ * parallel on a fork/join pool. Plain ASCII lines are handled on the raw
+ * bytes; lines with other characters are decoded as UTF-8 and kept when
+ * every letter folds to {@code A-Z} (accented French words). Words longer
+ * than {@link GameState#MAX_WORD_LENGTH} cannot be played and are skipped.
+ * Chunks are merged in file order and duplicates are dropped, keeping the
+ * first occurrence.
+ * </p>
+ */
+public class DictionaryLoader {
+
+    /** Below this many bytes a chunk is parsed on the current thread. */
+    static final int CHUNK_BYTES = 64 * 1024;
+
+    private static final int ASCII_WORD = 0;
+    private static final int NOT_A_WORD = 1;
+    private static final int NON_ASCII = 2;
+    /** UTF-8 bytes of the longest playable word: at most 3 per UTF-16 char. */
+    private static final int MAX_WORD_BYTES = 3 * GameState.MAX_WORD_LENGTH;
+
+    /**
+     * Load-time metrics.
+     *
+     * @param files             number of files read
+     * @param bytes             number of (decompressed) bytes parsed
+     * @param words             number of distinct words kept
+     * @param duplicatesRemoved number of valid entries dropped as duplicates
+     * @param parallelism       parallelism of the pool used
+     * @param elapsedNanos      wall-clock load time
+     */
+    public record Stats(int files, long bytes, int words, int duplicatesRemoved,
+            int parallelism, long elapsedNanos) {
+
+        /**
+         * Parsing throughput.
+         *
+         * @return megabytes parsed per second
+         */
+        public double megabytesPerSecond() {
+            return elapsedNanos == 0 ? 0 : bytes / 1e6 / (elapsedNanos / 1e9);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d words from %d file(s), %d duplicates, %.1f ms, %.1f MB/s, parallelism %d",
+                    words, files, duplicatesRemoved, elapsedNanos / 1e6, megabytesPerSecond(), parallelism);
+        }
+    }
+
+    /**
+     * Words loaded together with their metrics.
+     *
+     * @param words the distinct uppercase words, in file order
+     * @param stats the load metrics
+     */
+    public record Result(List<String> words, Stats stats) {
+    }
+
+    private final ForkJoinPool pool;
+
+    /** Creates a loader running on the common fork/join pool. */
+    public DictionaryLoader() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a loader running on the given pool.
+     *
+     * @param pool the pool parsing chunks
+     */
+    public DictionaryLoader(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Loads a file, a {@code .gz} file, or every regular file of a directory
+     * (in name order, not recursive).
+     *
+     * @param path the file or directory
+     * @return the loaded words and metrics
+     * @throws IOException if a file cannot be read
+     */
+    public Result load(Path path) throws IOException {
+        long start = System.nanoTime();
+        List<Path> files = listFiles(path);
+
+        List<ForkJoinTask<byte[]>> reads = new ArrayList<>(files.size());
+        for (Path file : files) {
+            reads.add(pool.submit(() -> readFile(file)));
+        }
+        List<byte[]> contents = new ArrayList<>(files.size());
+        try {
+            for (ForkJoinTask<byte[]> read : reads) {
+                contents.add(read.join());
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        return parse(contents, start);
+    }
+
+    /**
+     * Loads a single stream, which is closed afterwards.
+     *
+     * @param is the word list contents
+     * @return the loaded words and metrics
+     * @throws IOException if the stream cannot be read
+     */
+    public Result load(InputStream is) throws IOException {
+        long start = System.nanoTime();
+        try (InputStream in = is) {
+            return parse(List.of(in.readAllBytes()), start);
+        }
+    }
+
+    private Result parse(List<byte[]> contents, long start) {
+        List<ForkJoinTask<List<String>>> tasks = new ArrayList<>(contents.size());
+        long bytes = 0;
+        for (byte[] content : contents) {
+            tasks.add(pool.submit(new ParseTask(content, 0, content.length)));
+            bytes += content.length;
+        }
+
+        int valid = 0;
+        LinkedHashSet<String> distinct = new LinkedHashSet<>();
+        for (ForkJoinTask<List<String>> task : tasks) {
+            List<String> words = task.join();
+            valid += words.size();
+            distinct.addAll(words);
+        }
+
+        List<String> words = new ArrayList<>(distinct);
+        Stats stats = new Stats(contents.size(), bytes, words.size(), valid - words.size(),
+                pool.getParallelism(), System.nanoTime() - start);
+        return new Result(words, stats);
+    }
+
+    private static List<Path> listFiles(Path path) throws IOException {
+        if (!Files.isDirectory(path)) {
+            return List.of(path);
+        }
+        try (Stream<Path> entries = Files.list(path)) {
+            return entries.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+        }
+    }
+
+    private static byte[] readFile(Path file) {
+        try (InputStream raw = Files.newInputStream(file);
+                InputStream in = file.getFileName().toString().endsWith(".gz")
+                        ? new GZIPInputStream(raw) : raw) {
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Parses {@code [from, to)} of a buffer, splitting on line boundaries
+     * until chunks are small enough.
+     */
+    private static final class ParseTask extends RecursiveTask<List<String>> {
+
+        private final byte[] data;
+        private final int from;
+        private final int to;
+
+        ParseTask(byte[] data, int from, int to) {
+            this.data = data;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected List<String> compute() {
+            if (to - from > CHUNK_BYTES) {
+                int mid = from + (to - from) / 2;
+                while (mid < to && data[mid] != '\n') {
+                    mid++;
+                }
+                if (mid < to) {
+                    ParseTask left = new ParseTask(data, from, mid + 1);
+                    left.fork();
+                    List<String> right = new ParseTask(data, mid + 1, to).compute();
+                    List<String> words = left.join();
+                    words.addAll(right);
+                    return words;
+                }
+            }
+            return parseRange();
+        }
+
+        private List<String> parseRange() {
+            List<String> words = new ArrayList<>();
+            byte[] upper = new byte[GameState.MAX_WORD_LENGTH];
+            int lineStart = from;
+            for (int i = from; i <= to; i++) {
+                if (i == to || data[i] == '\n') {
+                    int start = lineStart;
+                    int end = i;
+                    lineStart = i + 1;
+                    while (start < end && isBlank(data[start])) {
+                        start++;
+                    }
+                    while (end > start && isBlank(data[end - 1])) {
+                        end--;
+                    }
+                    if (end == start || end - start > MAX_WORD_BYTES) {
+                        // too long to play, even in 3-byte characters
+                        continue;
+                    }
+                    // beyond upper.length bytes, only a multi-byte word can be short enough
+                    int scan = end - start > upper.length ? NON_ASCII : toUpperLetters(start, end, upper);
+                    if (scan == ASCII_WORD) {
+                        words.add(new String(upper, 0, end - start, StandardCharsets.US_ASCII));
+                    } else if (scan == NON_ASCII) {
+                        addAccentedWord(new String(data, start, end - start, StandardCharsets.UTF_8), words);
+                    }
+                }
+            }
+            return words;
+        }
+
+        /**
+         * Copies the ASCII letters of {@code [start, end)} uppercased. Stops at
+         * the first byte that is not one, reporting whether it is ASCII
+         * (the line is rejected) or not (the line needs UTF-8 decoding).
+         */
+        private int toUpperLetters(int start, int end, byte[] upper) {
+            for (int i = start; i < end; i++) {
+                byte b = data[i];
+                if (b >= 'a' && b <= 'z') {
+                    upper[i - start] = (byte) (b - ('a' - 'A'));
+                } else if (b >= 'A' && b <= 'Z') {
+                    upper[i - start] = b;
+                } else {
+                    return b < 0 ? NON_ASCII : NOT_A_WORD;
+                }
+            }
+            return ASCII_WORD;
+        }
+
+        private static void addAccentedWord(String line, List<String> words) {
+            if (LetterFolding.isValidWord(line)) {
+                words.add(line.toUpperCase(Locale.ROOT));
+            }
+        }
+
+        private static boolean isBlank(byte b) {
+            return (b & 0xFF) <= ' ';
+        }
+    }
+}
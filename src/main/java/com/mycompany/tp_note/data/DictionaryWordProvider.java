@@ -1,20 +1,32 @@
 package com.mycompany.tp_note.data;
 
-import java.io.BufferedReader;
+import com.mycompany.tp_note.engine.LetterFolding;
+
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.nio.charset.StandardCharsets;
-import java.util.ArrayList;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * Manages the loading and random selection of words from a dictionary file.
+ * Duplicate entries are loaded once. Accented words are kept as written and
+ * their folded form is stored alongside.
  */
-public class DictionaryWordProvider implements WordProvider {
+public class DictionaryWordProvider implements IndexedWordProvider {
+
+    /** Classpath location of the accented French word list. */
+    public static final String FRENCH_RESOURCE = "/dictionnaire_fr.txt";
 
     private final List<String> words;
+    private final List<String> foldedWords;
+    private final WordIndex index;
+    private final WordMembership membership;
+    private volatile PatternIndex patternIndex;
+    private final DictionaryLoader.Stats loadStats;
 
     /**
      * Initializes the DictionaryWordProvider by loading words from
@@ -23,40 +35,60 @@ public class DictionaryWordProvider implements WordProvider {
      * @throws IOException if the dictionary cannot be loaded or is empty
      */
     public DictionaryWordProvider() throws IOException {
-        this.words = loadWords();
-        if (words.isEmpty()) {
-            throw new IOException("Dictionary is empty or could not be loaded.");
-        }
+        this("/dictionary.txt");
     }
 
     /**
-     * Loads words from the {@code dictionary.txt} resource file.
-     * Only alphabetic, non-empty words are kept.
+     * Initializes the DictionaryWordProvider by loading words from the given
+     * classpath resource, such as {@link #FRENCH_RESOURCE}.
      *
-     * @return a list of valid words
-     * @throws IOException if the resource is missing or unreadable
+     * @param resource the absolute resource name
+     * @throws IOException if the dictionary cannot be loaded or is empty
      */
-    private List<String> loadWords() throws IOException {
-        List<String> loadedWords = new ArrayList<>();
-
-        InputStream is = getClass().getResourceAsStream("/dictionary.txt");
-        if (is == null) {
-            throw new IOException("dictionary.txt not found in resources");
-        }
+    public DictionaryWordProvider(String resource) throws IOException {
+        this(new DictionaryLoader().load(openResource(resource)));
+    }
 
-        try (BufferedReader reader =
-                     new BufferedReader(new InputStreamReader(is, StandardCharsets.UTF_8))) {
+    /**
+     * Initializes the DictionaryWordProvider by loading words from an
+     * external word list: a UTF-8 file with one word per line, a gzip
+     * compressed one ({@code .gz}), or a directory of such files.
+     *
+     * @param path the dictionary file or directory
+     * @throws IOException if the files cannot be read or hold no word
+     */
+    public DictionaryWordProvider(Path path) throws IOException {
+        this(new DictionaryLoader().load(path));
+    }
 
-            String line;
-            while ((line = reader.readLine()) != null) {
-                String word = line.trim();
-                if (!word.isEmpty() && word.matches("[a-zA-Z]+")) {
-                    loadedWords.add(word.toUpperCase());
-                }
-            }
+    /**
+     * Initializes the DictionaryWordProvider from words already loaded.
+     *
+     * @param loaded the loader result
+     * @throws IOException if no word was loaded
+     */
+    public DictionaryWordProvider(DictionaryLoader.Result loaded) throws IOException {
+        this.words = loaded.words();
+        this.loadStats = loaded.stats();
+        if (words.isEmpty()) {
+            throw new IOException("Dictionary is empty or could not be loaded.");
+        }
+        // fold once here so games and indexes never fold again
+        String[] folded = new String[words.size()];
+        for (int i = 0; i < folded.length; i++) {
+            folded[i] = LetterFolding.fold(words.get(i));
         }
+        this.foldedWords = Arrays.asList(folded);
+        this.index = new WordIndex(foldedWords);
+        this.membership = new WordMembership(foldedWords);
+    }
 
-        return loadedWords;
+    private static InputStream openResource(String resource) throws IOException {
+        InputStream is = DictionaryWordProvider.class.getResourceAsStream(resource);
+        if (is == null) {
+            throw new IOException(resource.substring(1) + " not found in resources");
+        }
+        return is;
     }
 
     /**
@@ -70,15 +102,129 @@ public class DictionaryWordProvider implements WordProvider {
             throw new IllegalStateException("Dictionary is empty");
         }
 
-        int index = ThreadLocalRandom.current().nextInt(words.size());
+        return getWord(ThreadLocalRandom.current());
+    }
+
+    /**
+     * Returns the word with the given id.
+     *
+     * @param index a value in {@code [0, getSize())}
+     * @return the uppercase word
+     */
+    @Override
+    public String getWord(int index) {
         return words.get(index);
     }
 
+    /**
+     * Returns the accent-folded form of the word with the given id
+     * (e.g. {@code ÉTÉ} → {@code ETE}), computed at load time.
+     *
+     * @param index a value in {@code [0, getSize())}
+     * @return the word folded to {@code A-Z}
+     */
+    public String getFoldedWord(int index) {
+        return foldedWords.get(index);
+    }
+
+    /**
+     * Whether the given word is in the dictionary, ignoring case and
+     * accents. Runs in constant time.
+     *
+     * @param word the candidate word
+     * @return true if it is a dictionary word
+     */
+    public boolean contains(String word) {
+        return membership.contains(word);
+    }
+
+    /**
+     * Returns a random word matching the given criteria.
+     *
+     * @param criteria the length, distinct-letter and difficulty filter
+     * @return a randomly selected matching word
+     * @throws IllegalStateException if no word matches
+     */
+    public String getWord(WordCriteria criteria) {
+        return getWord(criteria, ThreadLocalRandom.current());
+    }
+
+    /**
+     * Returns a word matching the given criteria, drawn from the given
+     * source for reproducible runs.
+     *
+     * @param criteria the length, distinct-letter and difficulty filter
+     * @param random   the randomness source
+     * @return a randomly selected matching word
+     * @throws IllegalStateException if no word matches
+     */
+    public String getWord(WordCriteria criteria, RandomGenerator random) {
+        return words.get(index.nextIndex(criteria, random));
+    }
+
+    /**
+     * Returns the number of words matching the given criteria.
+     *
+     * @param criteria the length, distinct-letter and difficulty filter
+     * @return the number of matching words
+     */
+    public int countWords(WordCriteria criteria) {
+        return index.count(criteria);
+    }
+
+    /**
+     * Returns a read-only view of the loaded words.
+     *
+     * @return the dictionary words, uppercase
+     */
+    public List<String> getWords() {
+        return Collections.unmodifiableList(words);
+    }
+
+    /**
+     * Returns a read-only view of the accent-folded words, by word id.
+     *
+     * @return the folded dictionary words
+     */
+    public List<String> getFoldedWords() {
+        return Collections.unmodifiableList(foldedWords);
+    }
+
+    /**
+     * Returns the pattern index over this dictionary, building it on first
+     * use since only hints, bots and analytics need it.
+     *
+     * @return the shared pattern index
+     */
+    public PatternIndex getPatternIndex() {
+        PatternIndex result = patternIndex;
+        if (result == null) {
+            synchronized (this) {
+                result = patternIndex;
+                if (result == null) {
+                    result = new PatternIndex(foldedWords);
+                    patternIndex = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the metrics recorded while loading this dictionary.
+     *
+     * @return the load metrics
+     */
+    public DictionaryLoader.Stats getLoadStats() {
+        return loadStats;
+    }
+
     /**
      * Returns the number of loaded words.
      *
      * @return dictionary size
      */
+    @Override
     public int getSize() {
         return words.size();
     }
@@ -0,0 +1,52 @@
+package com.mycompany.tp_note.data;
+
+/**
+ * Coarse difficulty rating of a dictionary word.
+ * <p>
+ * A word scores one point per distinct letter outside the twelve most common
+ * ones ({@code ETAOINSHRDLU}) and one extra point when it is four letters or
+ * shorter, since short words leave little to go on.
+ * </p>
+ */
+public enum Difficulty {
+    EASY, MEDIUM, HARD;
+
+    private static final int COMMON_LETTERS = letterMask("ETAOINSHRDLU");
+    private static final int SHORT_WORD = 4;
+
+    /**
+     * Rates an uppercase word.
+     *
+     * @param word the word to rate
+     * @return its difficulty
+     */
+    public static Difficulty of(String word) {
+        return of(word.length(), letterMask(word));
+    }
+
+    /**
+     * Rates a word from its length and distinct-letter mask (bit 0 = 'A').
+     *
+     * @param length     the word length
+     * @param letterMask the set of letters in the word
+     * @return its difficulty
+     */
+    static Difficulty of(int length, int letterMask) {
+        int score = Integer.bitCount(letterMask & ~COMMON_LETTERS);
+        if (length <= SHORT_WORD) {
+            score++;
+        }
+        if (score == 0) {
+            return EASY;
+        }
+        return score == 1 ? MEDIUM : HARD;
+    }
+
+    static int letterMask(String word) {
+        int mask = 0;
+        for (int i = 0; i < word.length(); i++) {
+            mask |= 1 << (word.charAt(i) - 'A');
+        }
+        return mask;
+    }
+}
@@ -0,0 +1,86 @@
+package com.mycompany.tp_note.data;
+
+/**
+ * Keyed pseudo-random permutation of {@code [0, size)}.
+ * <p>
+ * A four-round balanced Feistel network permutes the smallest power-of-four
+ * domain covering {@code size}; values falling outside {@code [0, size)} are
+ * fed back through the network (cycle walking) until they land inside, which
+ * takes fewer than four passes on average. The permutation is fully
+ * determined by {@code (size, key)} and needs no table.
+ * </p>
+ */
+public final class IndexPermutation {
+
+    private static final int ROUNDS = 4;
+
+    private final int size;
+    private final int halfBits;
+    private final int halfMask;
+    private final long[] roundKeys = new long[ROUNDS];
+
+    /**
+     * Creates the permutation of {@code [0, size)} selected by {@code key}.
+     *
+     * @param size the domain size
+     * @param key  the permutation key
+     */
+    public IndexPermutation(int size, long key) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Permutation size must be positive.");
+        }
+        this.size = size;
+        int bits = 64 - Long.numberOfLeadingZeros(size - 1L);
+        this.halfBits = Math.max(1, (bits + 1) / 2);
+        this.halfMask = (1 << halfBits) - 1;
+        long k = key;
+        for (int i = 0; i < ROUNDS; i++) {
+            k = mix(k + 0x9E3779B97F4A7C15L);
+            roundKeys[i] = k;
+        }
+    }
+
+    /**
+     * Returns the image of {@code index}.
+     *
+     * @param index a value in {@code [0, size)}
+     * @return the permuted value, also in {@code [0, size)}
+     */
+    public int apply(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index out of range: " + index);
+        }
+        int value = index;
+        do {
+            value = encrypt(value);
+        } while (value >= size);
+        return value;
+    }
+
+    /**
+     * Returns the domain size.
+     *
+     * @return the number of permuted values
+     */
+    public int size() {
+        return size;
+    }
+
+    private int encrypt(int value) {
+        int left = value >>> halfBits;
+        int right = value & halfMask;
+        for (long roundKey : roundKeys) {
+            int next = left ^ ((int) mix(right ^ roundKey) & halfMask);
+            left = right;
+            right = next;
+        }
+        return (left << halfBits) | right;
+    }
+
+    /** SplitMix64 finalizer. */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,35 @@
+package com.mycompany.tp_note.data;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * A {@link WordProvider} whose words can be addressed by a stable index
+ * (word id) in {@code [0, getSize())}.
+ */
+public interface IndexedWordProvider extends WordProvider {
+    /**
+     * Returns the number of words.
+     *
+     * @return The dictionary size.
+     */
+    int getSize();
+
+    /**
+     * Returns the word with the given id.
+     *
+     * @param index The word id, in {@code [0, getSize())}.
+     * @return The uppercase word.
+     */
+    String getWord(int index);
+
+    /**
+     * Returns a word drawn from the given source, so that a seeded source
+     * gives a reproducible sequence of words.
+     *
+     * @param random The randomness source.
+     * @return A uniformly selected word.
+     */
+    default String getWord(RandomGenerator random) {
+        return getWord(random.nextInt(getSize()));
+    }
+}
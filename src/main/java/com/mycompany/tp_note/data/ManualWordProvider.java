@@ -5,20 +5,37 @@ import java.io.IOException;
 
 /**
  * Provides a word by asking the user via the UI.
+ * Optionally, only real dictionary words are accepted.
  */
 public class ManualWordProvider implements WordProvider {
 
     private final UserInterface ui;
+    private final DictionaryWordProvider dictionary;
 
     public ManualWordProvider(UserInterface ui) {
+        this(ui, null);
+    }
+
+    /**
+     * @param ui         the UI asking player 1 for the word
+     * @param dictionary words must belong to it, or {@code null} to accept any
+     */
+    public ManualWordProvider(UserInterface ui, DictionaryWordProvider dictionary) {
         this.ui = ui;
+        this.dictionary = dictionary;
     }
 
+    /**
+     * @return the entered word, or an empty string when nothing was entered
+     *         or the word is not in the required dictionary
+     */
     @Override
     public String getWord() throws IOException {
         String word = ui.askForSecretWord();
         if (word == null)
             return "";
+        if (dictionary != null && !dictionary.contains(word))
+            return "";
         return word;
     }
 }
@@ -0,0 +1,147 @@
+package com.mycompany.tp_note.data;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Serves words straight from a dictionary precompiled by
+ * {@link DictionaryCompiler}.
+ * <p>
+ * The file is memory-mapped, so opening it costs the same whatever the
+ * dictionary size and the words never live on the heap: only the
+ * {@code String} returned by {@link #getWord()} is allocated.
+ * </p>
+ */
+public class MappedDictionaryWordProvider implements IndexedWordProvider {
+
+    /** Classpath location of the artifact produced at build time. */
+    public static final String RESOURCE = "/dictionary.bin";
+
+    private final ByteBuffer buffer;
+    private final int count;
+    private final int arenaStart;
+
+    /**
+     * Opens the {@code dictionary.bin} resource generated by the build.
+     * It is mapped when it sits on the file system, and read into memory
+     * otherwise (e.g. when packaged inside a jar).
+     *
+     * @throws IOException if the resource is missing or malformed
+     */
+    public MappedDictionaryWordProvider() throws IOException {
+        this(openResource());
+    }
+
+    /**
+     * Memory-maps the given compiled dictionary.
+     *
+     * @param file the binary dictionary file
+     * @throws IOException if the file cannot be mapped or is malformed
+     */
+    public MappedDictionaryWordProvider(Path file) throws IOException {
+        this(map(file));
+    }
+
+    private MappedDictionaryWordProvider(ByteBuffer buffer) throws IOException {
+        if (buffer.capacity() < DictionaryCompiler.HEADER_BYTES
+                || buffer.getInt(0) != DictionaryCompiler.MAGIC) {
+            throw new IOException("Not a compiled dictionary.");
+        }
+        if (buffer.getInt(4) != DictionaryCompiler.VERSION) {
+            throw new IOException("Unsupported dictionary version: " + buffer.getInt(4));
+        }
+        this.buffer = buffer;
+        this.count = buffer.getInt(8);
+        this.arenaStart = DictionaryCompiler.HEADER_BYTES + (count + 1) * Integer.BYTES;
+        if (count <= 0) {
+            throw new IOException("Dictionary is empty or could not be loaded.");
+        }
+        if (arenaStart + buffer.getInt(12) != buffer.capacity()) {
+            throw new IOException("Compiled dictionary is truncated.");
+        }
+    }
+
+    private static ByteBuffer map(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    private static ByteBuffer openResource() throws IOException {
+        URL url = MappedDictionaryWordProvider.class.getResource(RESOURCE);
+        if (url == null) {
+            throw new IOException("dictionary.bin not found in resources");
+        }
+        if ("file".equals(url.getProtocol())) {
+            try {
+                return map(Paths.get(url.toURI()));
+            } catch (URISyntaxException e) {
+                throw new IOException(e);
+            }
+        }
+        try (InputStream is = url.openStream()) {
+            return ByteBuffer.wrap(is.readAllBytes());
+        }
+    }
+
+    /**
+     * Returns a random word from the dictionary.
+     *
+     * @return a randomly selected word
+     */
+    @Override
+    public String getWord() {
+        return getWord(ThreadLocalRandom.current());
+    }
+
+    /**
+     * Returns the word stored at the given index.
+     *
+     * @param index a value in {@code [0, getSize())}
+     * @return the uppercase word
+     */
+    @Override
+    public String getWord(int index) {
+        Objects.checkIndex(index, count);
+        int start = offset(index);
+        byte[] bytes = new byte[offset(index + 1) - start];
+        buffer.get(arenaStart + start, bytes);
+        return new String(bytes, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Returns the length of the word stored at the given index without
+     * decoding it.
+     *
+     * @param index a value in {@code [0, getSize())}
+     * @return the word length
+     */
+    public int getWordLength(int index) {
+        Objects.checkIndex(index, count);
+        return offset(index + 1) - offset(index);
+    }
+
+    /**
+     * Returns the number of words in the compiled dictionary.
+     *
+     * @return dictionary size
+     */
+    @Override
+    public int getSize() {
+        return count;
+    }
+
+    private int offset(int index) {
+        return buffer.getInt(DictionaryCompiler.HEADER_BYTES + index * Integer.BYTES);
+    }
+}
@@ -0,0 +1,226 @@
+package com.mycompany.tp_note.data;
+
+import com.mycompany.tp_note.engine.GameState;
+import com.mycompany.tp_note.engine.LetterFolding;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Bitset inverted index answering "which dictionary words fit this masked
+ * word and these wrong letters?".
+ * <p>
+ * Each word id is one bit. The index keeps one bitset per word length, one
+ * per (position, letter) and one per letter present anywhere in the word. A
+ * query ANDs the length set with the revealed (position, letter) sets and
+ * clears the words containing a wrong letter, or containing a revealed letter
+ * at a hidden position (in hangman every occurrence of a guessed letter is
+ * revealed). The cost is a few passes over {@code size / 64} longs,
+ * independent of word length.
+ * </p>
+ */
+public class PatternIndex {
+
+    private static final int LETTERS = 26;
+    private static final char HIDDEN = '_';
+
+    private final List<String> foldedWords;
+    private final int words;
+    private final int longs;
+    private final int maxLength;
+    private final long[][] byLength;
+    private final long[][] byPositionLetter;
+    private final long[][] byLetter;
+    private final int[] letterMasks;
+
+    /**
+     * Indexes the given words.
+     *
+     * @param foldedWords words uppercase and folded to {@code A-Z}
+     */
+    public PatternIndex(List<String> foldedWords) {
+        this.foldedWords = foldedWords;
+        this.words = foldedWords.size();
+        this.longs = (words + 63) >>> 6;
+        int longest = 0;
+        for (String word : foldedWords) {
+            longest = Math.max(longest, word.length());
+        }
+        this.maxLength = longest;
+        this.byLength = new long[maxLength + 1][longs];
+        this.byPositionLetter = new long[maxLength * LETTERS][longs];
+        this.byLetter = new long[LETTERS][longs];
+        this.letterMasks = new int[words];
+
+        for (int id = 0; id < words; id++) {
+            String word = foldedWords.get(id);
+            int slot = id >>> 6;
+            long bit = 1L << id;
+            byLength[word.length()][slot] |= bit;
+            for (int pos = 0; pos < word.length(); pos++) {
+                int letter = word.charAt(pos) - 'A';
+                byPositionLetter[pos * LETTERS + letter][slot] |= bit;
+                byLetter[letter][slot] |= bit;
+                letterMasks[id] |= 1 << letter;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of indexed words, i.e. the bit length of results.
+     *
+     * @return the dictionary size
+     */
+    public int size() {
+        return words;
+    }
+
+    /**
+     * Returns an indexed word.
+     *
+     * @param id the word id
+     * @return the folded word
+     */
+    public String getWord(int id) {
+        return foldedWords.get(id);
+    }
+
+    /**
+     * Returns the distinct letters of an indexed word.
+     *
+     * @param id the word id
+     * @return the letter mask (bit 0 = 'A')
+     */
+    public int getLetterMask(int id) {
+        return letterMasks[id];
+    }
+
+    /**
+     * Finds the words matching a game's current masked word and wrong guesses.
+     *
+     * @param state the game state
+     * @return the ids of the matching words
+     */
+    public BitSet match(GameState state) {
+        return match(state.maskedView(), wrongLetters(state));
+    }
+
+    /**
+     * Finds the words matching a pattern.
+     *
+     * @param pattern      revealed letters and {@code _} for hidden ones;
+     *                     spaces are ignored, so {@code "A _ _ L E"} and
+     *                     {@code "A__LE"} are equivalent
+     * @param wrongLetters letters known to be absent (bit 0 = 'A')
+     * @return the ids of the matching words
+     */
+    public BitSet match(CharSequence pattern, int wrongLetters) {
+        long[] result = new long[longs];
+        matchInto(pattern, wrongLetters, result);
+        return BitSet.valueOf(result);
+    }
+
+    /**
+     * Allocation-free variant of {@link #match(CharSequence, int)}.
+     *
+     * @param pattern      the masked word
+     * @param wrongLetters letters known to be absent (bit 0 = 'A')
+     * @param result       receives the matching ids; at least
+     *                     {@code (size() + 63) / 64} longs
+     * @return the number of matching words
+     */
+    public int matchInto(CharSequence pattern, int wrongLetters, long[] result) {
+        int length = 0;
+        int revealed = 0;
+        for (int i = 0; i < pattern.length(); i++) {
+            char c = pattern.charAt(i);
+            if (c == ' ') {
+                continue;
+            }
+            if (c != HIDDEN) {
+                char letter = LetterFolding.fold(c);
+                if (letter < 'A' || letter > 'Z') {
+                    throw new IllegalArgumentException("Invalid pattern: " + pattern);
+                }
+                revealed |= 1 << (letter - 'A');
+            }
+            length++;
+        }
+        if (length == 0 || length > maxLength) {
+            Arrays.fill(result, 0, longs, 0L);
+            return 0;
+        }
+
+        System.arraycopy(byLength[length], 0, result, 0, longs);
+        int pos = 0;
+        for (int i = 0; i < pattern.length(); i++) {
+            char c = pattern.charAt(i);
+            if (c == ' ') {
+                continue;
+            }
+            if (c == HIDDEN) {
+                for (int letters = revealed; letters != 0; letters &= letters - 1) {
+                    andNot(result, byPositionLetter[pos * LETTERS + Integer.numberOfTrailingZeros(letters)]);
+                }
+            } else {
+                and(result, byPositionLetter[pos * LETTERS + LetterFolding.fold(c) - 'A']);
+            }
+            pos++;
+        }
+        for (int letters = wrongLetters & ((1 << LETTERS) - 1); letters != 0; letters &= letters - 1) {
+            andNot(result, byLetter[Integer.numberOfTrailingZeros(letters)]);
+        }
+
+        int count = 0;
+        for (int i = 0; i < longs; i++) {
+            count += Long.bitCount(result[i]);
+        }
+        return count;
+    }
+
+    /**
+     * Resolves the ids of a match to the folded words.
+     *
+     * @param ids a match result
+     * @return the matching words
+     */
+    public List<String> words(BitSet ids) {
+        List<String> result = new ArrayList<>(ids.cardinality());
+        for (int id = ids.nextSetBit(0); id >= 0; id = ids.nextSetBit(id + 1)) {
+            result.add(foldedWords.get(id));
+        }
+        return result;
+    }
+
+    /**
+     * Letters guessed in the game that are not in the secret word.
+     *
+     * @param state the game state
+     * @return the wrong letters (bit 0 = 'A')
+     */
+    static int wrongLetters(GameState state) {
+        String folded = state.getFoldedWord();
+        int wrong = 0;
+        for (int mask = state.guessedMask(); mask != 0; mask &= mask - 1) {
+            int letter = Integer.numberOfTrailingZeros(mask);
+            if (folded.indexOf('A' + letter) < 0) {
+                wrong |= 1 << letter;
+            }
+        }
+        return wrong;
+    }
+
+    private void and(long[] result, long[] set) {
+        for (int i = 0; i < longs; i++) {
+            result[i] &= set[i];
+        }
+    }
+
+    private void andNot(long[] result, long[] set) {
+        for (int i = 0; i < longs; i++) {
+            result[i] &= ~set[i];
+        }
+    }
+}
@@ -0,0 +1,228 @@
+package com.mycompany.tp_note.data;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Decorator keeping a buffer of words ready, filled by a background thread,
+ * so that starting a game does not wait on word selection or I/O.
+ * <p>
+ * If the wrapped provider fails, with an {@link IOException} or a runtime
+ * exception, the words already buffered are still served and the failure
+ * is then reported to every caller. Once the provider is closed, waiting
+ * callers are released with an {@link IOException}. Callers and the filler
+ * wait on conditions of one lock, signalled as soon as a word, a failure or
+ * the closing arrives.
+ * </p>
+ */
+public class PrefetchingWordProvider implements WordProvider, AutoCloseable {
+
+    private final WordProvider delegate;
+    private final int capacity;
+    private final ArrayDeque<String> buffer;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+    private final Thread filler;
+    /** Set by the filler after its last word is buffered. */
+    private Exception failure;
+    private boolean closed;
+
+    /**
+     * Wraps a provider and starts prefetching from it.
+     *
+     * @param delegate the provider to read ahead from
+     * @param capacity the number of words kept ready
+     */
+    public PrefetchingWordProvider(WordProvider delegate, int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be at least 1.");
+        }
+        this.delegate = delegate;
+        this.capacity = capacity;
+        this.buffer = new ArrayDeque<>(capacity);
+        this.filler = new Thread(this::fill, "word-prefetcher");
+        filler.setDaemon(true);
+        filler.start();
+    }
+
+    private void fill() {
+        try {
+            while (true) {
+                String word;
+                try {
+                    word = delegate.getWord();
+                } catch (IOException | RuntimeException e) {
+                    fail(e);
+                    return;
+                }
+                lock.lockInterruptibly();
+                try {
+                    while (buffer.size() == capacity && !closed) {
+                        notFull.await();
+                    }
+                    if (closed) {
+                        return;
+                    }
+                    buffer.add(word);
+                    notEmpty.signal();
+                } finally {
+                    lock.unlock();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void fail(Exception e) {
+        lock.lock();
+        try {
+            failure = e;
+            notEmpty.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the next buffered word, waiting only if the buffer is empty.
+     *
+     * @return the secret word
+     * @throws IOException if the wrapped provider failed or this provider
+     *                     was closed, and no word is left
+     */
+    @Override
+    public String getWord() throws IOException {
+        lock.lock();
+        try {
+            while (buffer.isEmpty()) {
+                checkEnded();
+                notEmpty.await();
+            }
+            return take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for a word.", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Removes the oldest buffered word; the lock must be held and the buffer not empty. */
+    private String take() {
+        String word = buffer.poll();
+        notFull.signal();
+        return word;
+    }
+
+    /**
+     * Throws if no word will ever come, once the buffer is empty; the lock
+     * must be held.
+     */
+    private void checkEnded() throws IOException {
+        if (closed) {
+            throw new IOException("Word provider closed.");
+        }
+        if (failure != null) {
+            // the failure is published after the last word, so the buffer is final
+            throw new IOException("Word provider failed.", failure);
+        }
+    }
+
+    /**
+     * Returns buffered words, waiting for the ones not yet prefetched.
+     * If the wrapped provider fails once some words are drawn, they are
+     * returned, fewer than requested, and the failure is reported by the
+     * next call.
+     *
+     * @param n the number of words
+     * @return the secret words, at least one
+     * @throws IOException if the wrapped provider failed or this provider
+     *                     was closed, and no word is left
+     */
+    @Override
+    public List<String> getWords(int n) throws IOException {
+        if (n < 1) {
+            throw new IllegalArgumentException("Must draw at least one word.");
+        }
+        List<String> words = new ArrayList<>(n);
+        lock.lock();
+        try {
+            while (words.size() < n && !buffer.isEmpty()) {
+                words.add(take());
+            }
+        } finally {
+            lock.unlock();
+        }
+        try {
+            while (words.size() < n) {
+                words.add(getWord());
+            }
+        } catch (IOException e) {
+            if (words.isEmpty()) {
+                throw e;
+            }
+        }
+        return words;
+    }
+
+    /**
+     * Completes immediately when a word is buffered, and otherwise on the
+     * given executor once the next word is ready.
+     *
+     * @param executor runs the wait for the next word
+     * @return a stage completed with the secret word
+     */
+    @Override
+    public CompletionStage<String> getWordAsync(Executor executor) {
+        String word;
+        lock.lock();
+        try {
+            word = buffer.isEmpty() ? null : take();
+        } finally {
+            lock.unlock();
+        }
+        if (word == null) {
+            return WordProvider.super.getWordAsync(executor);
+        }
+        return CompletableFuture.completedFuture(word);
+    }
+
+    /**
+     * Returns the number of words currently ready.
+     *
+     * @return the buffered word count
+     */
+    public int getBufferedCount() {
+        lock.lock();
+        try {
+            return buffer.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Stops the background thread; callers waiting for a word fail.
+     */
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            closed = true;
+            notEmpty.signalAll();
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        filler.interrupt();
+    }
+}
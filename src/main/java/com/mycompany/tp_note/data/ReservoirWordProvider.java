@@ -0,0 +1,107 @@
+package com.mycompany.tp_note.data;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * Picks words from an external word list without loading it.
+ * <p>
+ * Each call streams the file once and keeps a reservoir of the requested
+ * size (Algorithm R), so memory stays constant whatever the list size and
+ * every valid word has the same chance of being drawn. The reservoir grows
+ * with the words seen, so a large {@code k} on a short list costs only
+ * what the list holds.
+ * </p>
+ */
+public class ReservoirWordProvider implements WordProvider {
+
+    private static final int INITIAL_RESERVOIR = 16;
+
+    private final Path file;
+
+    /**
+     * Creates a provider reading the given word list, one word per line.
+     *
+     * @param file the word list
+     */
+    public ReservoirWordProvider(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * Streams the word list and returns one uniformly random valid word.
+     *
+     * @return a randomly selected word
+     * @throws IOException if the file cannot be read or holds no valid word
+     */
+    @Override
+    public String getWord() throws IOException {
+        return getWords(1).get(0);
+    }
+
+    /**
+     * Streams the word list once and returns {@code k} distinct entries drawn
+     * uniformly at random, or every valid word if the list holds fewer.
+     *
+     * @param k the number of words to draw
+     * @return the drawn words, uppercase
+     * @throws IOException if the file cannot be read or holds no valid word
+     */
+    @Override
+    public List<String> getWords(int k) throws IOException {
+        return getWords(k, ThreadLocalRandom.current());
+    }
+
+    /**
+     * Same as {@link #getWords(int)}, drawing from the given source so that
+     * a seeded source gives a reproducible draw.
+     *
+     * @param k      the number of words to draw
+     * @param random the randomness source
+     * @return the drawn words, uppercase
+     * @throws IOException if the file cannot be read or holds no valid word
+     */
+    public List<String> getWords(int k, RandomGenerator random) throws IOException {
+        if (k < 1) {
+            throw new IllegalArgumentException("Must draw at least one word.");
+        }
+        String[] reservoir = new String[Math.min(k, INITIAL_RESERVOIR)];
+        long seen = 0;
+
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String word = line.trim();
+                if (!DictionaryCompiler.isValidWord(word)) {
+                    continue;
+                }
+                if (seen < k) {
+                    if (seen == reservoir.length) {
+                        reservoir = Arrays.copyOf(reservoir, (int) Math.min(k, 2L * reservoir.length));
+                    }
+                    reservoir[(int) seen] = word.toUpperCase(Locale.ROOT);
+                } else {
+                    long slot = random.nextLong(seen + 1);
+                    if (slot < k) {
+                        reservoir[(int) slot] = word.toUpperCase(Locale.ROOT);
+                    }
+                }
+                seen++;
+            }
+        }
+
+        if (seen == 0) {
+            throw new IOException("No valid word found in " + file);
+        }
+        return new ArrayList<>(Arrays.asList(reservoir).subList(0, (int) Math.min(seen, k)));
+    }
+}
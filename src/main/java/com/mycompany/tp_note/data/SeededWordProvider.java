@@ -0,0 +1,63 @@
+package com.mycompany.tp_note.data;
+
+import java.util.SplittableRandom;
+
+/**
+ * Draws words from a seeded {@link SplittableRandom}, so a load run replays
+ * the same word mix on every machine.
+ * <p>
+ * Instances are not thread-safe. Give each worker its own provider with
+ * {@link #split()}: as long as the splits are made in the same order (e.g.
+ * one per worker index, up front), every worker draws the same words
+ * whatever the thread count or scheduling.
+ * </p>
+ */
+public class SeededWordProvider implements WordProvider {
+
+    private final IndexedWordProvider words;
+    private final SplittableRandom random;
+
+    /**
+     * Creates a provider starting from the given seed.
+     *
+     * @param words the dictionary to draw from
+     * @param seed  the run seed
+     */
+    public SeededWordProvider(IndexedWordProvider words, long seed) {
+        this(words, new SplittableRandom(seed));
+    }
+
+    private SeededWordProvider(IndexedWordProvider words, SplittableRandom random) {
+        this.words = words;
+        this.random = random;
+    }
+
+    /**
+     * Returns the next word of the seeded sequence.
+     *
+     * @return a uniformly selected word
+     */
+    @Override
+    public String getWord() {
+        return words.getWord(random);
+    }
+
+    /**
+     * Returns the next word id of the seeded sequence.
+     *
+     * @return a word id in {@code [0, words.getSize())}
+     */
+    public int nextIndex() {
+        return random.nextInt(words.getSize());
+    }
+
+    /**
+     * Derives an independent provider for another worker, advancing this
+     * one.
+     *
+     * @return the new provider
+     */
+    public SeededWordProvider split() {
+        return new SeededWordProvider(words, random.split());
+    }
+}
@@ -0,0 +1,194 @@
+package com.mycompany.tp_note.data;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Process-wide dictionary shared by every game session.
+ * <p>
+ * The current word set is an immutable {@link DictionaryWordProvider}
+ * published through a volatile field: readers never lock, and a reload
+ * swaps in a fully built instance in one write, so a session sees either
+ * the old list or the new one, never a partial one.
+ * </p>
+ * <p>
+ * When the {@value #DICTIONARY_PROPERTY} system property names a file, the
+ * shared instance is loaded from it and reloaded whenever it changes.
+ * </p>
+ */
+public class SharedDictionary implements WordProvider, AutoCloseable {
+
+    /** System property pointing to an external dictionary file. */
+    public static final String DICTIONARY_PROPERTY = "tp_note.dictionary";
+
+    /** Time without change events after which a modified file is reloaded. */
+    static final long RELOAD_QUIET_MILLIS = 500;
+
+    private static volatile SharedDictionary instance;
+
+    private volatile DictionaryWordProvider current;
+    private WatchService watchService;
+    private Thread watcher;
+
+    /**
+     * Creates a shared dictionary starting from the given word set.
+     *
+     * @param initial the initial dictionary
+     */
+    public SharedDictionary(DictionaryWordProvider initial) {
+        this.current = initial;
+    }
+
+    /**
+     * Returns the process-wide instance, loading it on first use.
+     *
+     * @return the shared dictionary
+     * @throws IOException if the dictionary cannot be loaded
+     */
+    public static SharedDictionary getInstance() throws IOException {
+        SharedDictionary shared = instance;
+        if (shared == null) {
+            synchronized (SharedDictionary.class) {
+                shared = instance;
+                if (shared == null) {
+                    shared = load();
+                    instance = shared;
+                }
+            }
+        }
+        return shared;
+    }
+
+    private static SharedDictionary load() throws IOException {
+        String external = System.getProperty(DICTIONARY_PROPERTY);
+        if (external == null || external.isBlank()) {
+            return new SharedDictionary(new DictionaryWordProvider());
+        }
+        Path file = Paths.get(external);
+        SharedDictionary shared = new SharedDictionary(new DictionaryWordProvider(file));
+        shared.watch(file);
+        return shared;
+    }
+
+    /**
+     * Returns the word set currently published.
+     *
+     * @return the current dictionary snapshot
+     */
+    public DictionaryWordProvider current() {
+        return current;
+    }
+
+    /**
+     * Returns a random word from the current dictionary.
+     *
+     * @return a randomly selected word
+     */
+    @Override
+    public String getWord() {
+        return current.getWord();
+    }
+
+    /**
+     * Loads the given file and publishes it as the new word set.
+     * On failure the previous word set stays in place.
+     *
+     * @param file the dictionary file
+     * @throws IOException if the file cannot be loaded or is empty
+     */
+    public void reload(Path file) throws IOException {
+        current = new DictionaryWordProvider(file);
+    }
+
+    /**
+     * Starts a daemon thread reloading the dictionary whenever the given file
+     * is created or modified.
+     * <p>
+     * A reload waits until no change has been seen for
+     * {@value #RELOAD_QUIET_MILLIS} ms, so that a file written in several
+     * steps is loaded once, complete. Writers that may pause longer should
+     * write a temporary file in the same directory and move it over the
+     * dictionary atomically: the move is seen as a single creation.
+     * </p>
+     *
+     * @param file the dictionary file to watch
+     * @throws IOException if the watch service cannot be registered
+     */
+    public synchronized void watch(Path file) throws IOException {
+        if (watcher != null) {
+            throw new IllegalStateException("Already watching a dictionary file.");
+        }
+        Path absolute = file.toAbsolutePath();
+        watchService = FileSystems.getDefault().newWatchService();
+        absolute.getParent().register(watchService,
+                StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+
+        WatchService service = watchService;
+        watcher = new Thread(() -> watchLoop(service, absolute), "dictionary-watcher");
+        watcher.setDaemon(true);
+        watcher.start();
+    }
+
+    private void watchLoop(WatchService service, Path file) {
+        Path name = file.getFileName();
+        try {
+            while (true) {
+                if (concernsFile(service.take(), name)) {
+                    // reload once the writes have stopped, not on the first one
+                    WatchKey next;
+                    while ((next = service.poll(RELOAD_QUIET_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+                        concernsFile(next, name);
+                    }
+                    tryReload(file);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException e) {
+            // close() was called
+        }
+    }
+
+    /** Drains and resets a key, telling whether one of its events is about the file. */
+    private static boolean concernsFile(WatchKey key, Path name) {
+        boolean concerned = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (name.equals(event.context())) {
+                concerned = true;
+            }
+        }
+        key.reset();
+        return concerned;
+    }
+
+    private void tryReload(Path file) {
+        try {
+            reload(file);
+        } catch (IOException e) {
+            // keep serving the previous word set until the next change
+            System.err.println("Rechargement du dictionnaire impossible : " + e.getMessage());
+        }
+    }
+
+    /**
+     * Stops watching the dictionary file, if any.
+     *
+     * @throws IOException if the watch service cannot be closed
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (watchService != null) {
+            watchService.close();
+            watchService = null;
+            watcher = null;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.mycompany.tp_note.data;
+
+/**
+ * Filter used to select dictionary words.
+ *
+ * @param minLength          minimum word length (inclusive)
+ * @param maxLength          maximum word length (inclusive)
+ * @param minDistinctLetters minimum number of distinct letters
+ * @param difficulty         required difficulty, or {@code null} for any
+ */
+public record WordCriteria(int minLength, int maxLength, int minDistinctLetters, Difficulty difficulty) {
+
+    /**
+     * Validates the bounds.
+     */
+    public WordCriteria {
+        if (minLength < 1 || maxLength < minLength) {
+            throw new IllegalArgumentException("Invalid length range: " + minLength + ".." + maxLength);
+        }
+        if (minDistinctLetters < 0) {
+            throw new IllegalArgumentException("Min distinct letters cannot be negative.");
+        }
+    }
+
+    /**
+     * Criteria on word length only.
+     *
+     * @param minLength minimum word length (inclusive)
+     * @param maxLength maximum word length (inclusive)
+     * @return the criteria
+     */
+    public static WordCriteria length(int minLength, int maxLength) {
+        return new WordCriteria(minLength, maxLength, 0, null);
+    }
+
+    /**
+     * Whether the given word attributes satisfy these criteria.
+     *
+     * @param length          the word length
+     * @param distinctLetters the number of distinct letters
+     * @param wordDifficulty  the word difficulty
+     * @return true if the word matches
+     */
+    public boolean matches(int length, int distinctLetters, Difficulty wordDifficulty) {
+        return length >= minLength && length <= maxLength
+                && distinctLetters >= minDistinctLetters
+                && (difficulty == null || difficulty == wordDifficulty);
+    }
+}
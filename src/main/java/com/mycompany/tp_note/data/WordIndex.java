@@ -0,0 +1,208 @@
+package com.mycompany.tp_note.data;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * Groups dictionary words by (difficulty, length, distinct letters) so that
+ * criteria-based selection never scans the dictionary.
+ * <p>
+ * Every word id is stored once, at construction, in a single array sorted
+ * by bucket, with the start of each bucket. For a given difficulty and
+ * length, the buckets with at least {@code n} distinct letters are
+ * contiguous, so any {@link WordCriteria} is answered from one range per
+ * (difficulty, length) pair.
+ * </p>
+ * <p>
+ * Those ranges are numbered in two orders: by difficulty then length,
+ * where the pairs of a fixed difficulty are consecutive, and by length then
+ * difficulty, where the pairs of any difficulty are. For each minimum of
+ * distinct letters, the cumulative range sizes in both orders are
+ * precomputed, so the matching pairs of any criteria are one run of
+ * consecutive pairs: counting them is a subtraction, and a draw is one
+ * binary search in the run plus an offset, whatever the criteria span.
+ * </p>
+ */
+public class WordIndex {
+
+    private static final int LETTERS = 26;
+    private static final Difficulty[] DIFFICULTIES = Difficulty.values();
+
+    private final List<String> words;
+    private final int maxLength;
+    /** Word ids, grouped by bucket, ascending within a bucket. */
+    private final int[] ids;
+    /** Bucket {@code b} holds {@code ids[bucketStart[b] .. bucketStart[b + 1])}. */
+    private final int[] bucketStart;
+    /**
+     * {@code byDifficulty[d][p]}: words with at least {@code d} distinct
+     * letters in the pairs before pair {@code p = difficulty * (maxLength + 1) + length}.
+     */
+    private final int[][] byDifficulty;
+    /**
+     * {@code byLength[d][p]}: the same, for pairs numbered
+     * {@code p = length * DIFFICULTIES.length + difficulty}.
+     */
+    private final int[][] byLength;
+
+    /**
+     * Indexes the given words, uppercase and folded to {@code A-Z}. The list
+     * must not change afterwards.
+     *
+     * @param words the dictionary words
+     */
+    public WordIndex(List<String> words) {
+        this.words = words;
+        int longest = 0;
+        for (String word : words) {
+            longest = Math.max(longest, word.length());
+        }
+        this.maxLength = longest;
+
+        int buckets = DIFFICULTIES.length * (maxLength + 1) * (LETTERS + 1);
+        this.bucketStart = new int[buckets + 1];
+        int[] keys = new int[words.size()];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = bucketOf(words.get(i));
+            bucketStart[keys[i] + 1]++;
+        }
+        for (int b = 0; b < buckets; b++) {
+            bucketStart[b + 1] += bucketStart[b];
+        }
+        this.ids = new int[keys.length];
+        int[] fill = Arrays.copyOf(bucketStart, buckets);
+        for (int i = 0; i < keys.length; i++) {
+            ids[fill[keys[i]]++] = i;
+        }
+
+        // one row per minimum, up to LETTERS + 1 which no word reaches
+        int pairs = DIFFICULTIES.length * (maxLength + 1);
+        this.byDifficulty = new int[LETTERS + 2][pairs + 1];
+        this.byLength = new int[LETTERS + 2][pairs + 1];
+        for (int d = 0; d <= LETTERS + 1; d++) {
+            for (int p = 0; p < pairs; p++) {
+                Difficulty difficulty = DIFFICULTIES[p / (maxLength + 1)];
+                int length = p % (maxLength + 1);
+                byDifficulty[d][p + 1] = byDifficulty[d][p] + rangeEnd(difficulty, length)
+                        - rangeStart(difficulty, length, d);
+                difficulty = DIFFICULTIES[p % DIFFICULTIES.length];
+                length = p / DIFFICULTIES.length;
+                byLength[d][p + 1] = byLength[d][p] + rangeEnd(difficulty, length)
+                        - rangeStart(difficulty, length, d);
+            }
+        }
+    }
+
+    /**
+     * Returns a random word matching the criteria.
+     *
+     * @param criteria the filter
+     * @param random   the randomness source
+     * @return a matching word
+     * @throws IllegalStateException if no word matches
+     */
+    public String getWord(WordCriteria criteria, RandomGenerator random) {
+        return words.get(nextIndex(criteria, random));
+    }
+
+    /**
+     * Returns the id (position in the indexed list) of a random word
+     * matching the criteria.
+     *
+     * @param criteria the filter
+     * @param random   the randomness source
+     * @return a matching word id
+     * @throws IllegalStateException if no word matches
+     */
+    public int nextIndex(WordCriteria criteria, RandomGenerator random) {
+        int[] counts = counts(criteria);
+        int first = firstPair(criteria);
+        int end = endPair(criteria);
+        if (first == end || counts[end] == counts[first]) {
+            throw new IllegalStateException("No word matches " + criteria);
+        }
+        int slot = counts[first] + random.nextInt(counts[end] - counts[first]);
+        // last pair starting at or before the slot: it ends after the slot, so it is not empty
+        int low = first;
+        int high = end - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (counts[mid] <= slot) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        Difficulty difficulty;
+        int length;
+        if (criteria.difficulty() != null) {
+            difficulty = criteria.difficulty();
+            length = low % (maxLength + 1);
+        } else {
+            difficulty = DIFFICULTIES[low % DIFFICULTIES.length];
+            length = low / DIFFICULTIES.length;
+        }
+        int minDistinct = Math.min(criteria.minDistinctLetters(), LETTERS + 1);
+        return ids[rangeStart(difficulty, length, minDistinct) + slot - counts[low]];
+    }
+
+    /**
+     * Returns how many words match the criteria.
+     *
+     * @param criteria the filter
+     * @return the number of matching words
+     */
+    public int count(WordCriteria criteria) {
+        int[] counts = counts(criteria);
+        return counts[endPair(criteria)] - counts[firstPair(criteria)];
+    }
+
+    /** The cumulative sizes in the pair order where the criteria's pairs are consecutive. */
+    private int[] counts(WordCriteria criteria) {
+        int minDistinct = Math.min(criteria.minDistinctLetters(), LETTERS + 1);
+        return criteria.difficulty() != null ? byDifficulty[minDistinct] : byLength[minDistinct];
+    }
+
+    /** First pair matching the criteria, or 0 (with {@link #endPair}) if none can. */
+    private int firstPair(WordCriteria criteria) {
+        if (criteria.minLength() > maxLength) {
+            return 0;
+        }
+        return criteria.difficulty() != null
+                ? criteria.difficulty().ordinal() * (maxLength + 1) + criteria.minLength()
+                : criteria.minLength() * DIFFICULTIES.length;
+    }
+
+    /** End (exclusive) of the pairs matching the criteria. */
+    private int endPair(WordCriteria criteria) {
+        if (criteria.minLength() > maxLength) {
+            return 0;
+        }
+        int lastLength = Math.min(criteria.maxLength(), maxLength);
+        return criteria.difficulty() != null
+                ? criteria.difficulty().ordinal() * (maxLength + 1) + lastLength + 1
+                : (lastLength + 1) * DIFFICULTIES.length;
+    }
+
+    /** First id slot of the words with this difficulty and length and at least {@code minDistinct} letters. */
+    private int rangeStart(Difficulty difficulty, int length, int minDistinct) {
+        return minDistinct > LETTERS
+                ? rangeEnd(difficulty, length)
+                : bucketStart[bucket(difficulty, length, minDistinct)];
+    }
+
+    /** End (exclusive) of the id slots of the words with this difficulty and length. */
+    private int rangeEnd(Difficulty difficulty, int length) {
+        return bucketStart[bucket(difficulty, length, LETTERS) + 1];
+    }
+
+    private int bucketOf(String word) {
+        int mask = Difficulty.letterMask(word);
+        return bucket(Difficulty.of(word.length(), mask), word.length(), Integer.bitCount(mask));
+    }
+
+    private int bucket(Difficulty difficulty, int length, int distinct) {
+        return (difficulty.ordinal() * (maxLength + 1) + length) * (LETTERS + 1) + distinct;
+    }
+}
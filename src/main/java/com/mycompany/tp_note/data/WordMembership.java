@@ -0,0 +1,115 @@
+package com.mycompany.tp_note.data;
+
+import com.mycompany.tp_note.engine.LetterFolding;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Constant-time "is this a dictionary word?" check.
+ * <p>
+ * A Bloom filter (about ten bits per word, three probes) rejects almost
+ * every unknown word without touching the dictionary. Candidates that pass
+ * are confirmed exactly in an open-addressing table of word ids. Lookups
+ * fold accents on the fly and allocate nothing.
+ * </p>
+ */
+public class WordMembership {
+
+    private static final int BLOOM_BITS_PER_WORD = 10;
+    private static final int BLOOM_PROBES = 3;
+    private static final int EMPTY = -1;
+
+    private final List<String> foldedWords;
+    private final long[] bloom;
+    private final long bloomBits;
+    private final int[] table;
+    private final int tableMask;
+
+    /**
+     * Builds the filter and table over the given folded words.
+     *
+     * @param foldedWords distinct words, uppercase and folded to {@code A-Z}
+     */
+    public WordMembership(List<String> foldedWords) {
+        this.foldedWords = foldedWords;
+        int n = Math.max(1, foldedWords.size());
+
+        this.bloom = new long[(int) ((n * (long) BLOOM_BITS_PER_WORD + 63) / 64)];
+        this.bloomBits = bloom.length * 64L;
+
+        int capacity = Integer.highestOneBit(n * 2 - 1) << 1;
+        this.table = new int[capacity];
+        this.tableMask = capacity - 1;
+        Arrays.fill(table, EMPTY);
+
+        for (int id = 0; id < foldedWords.size(); id++) {
+            long hash = hash(foldedWords.get(id));
+            for (int i = 0; i < BLOOM_PROBES; i++) {
+                long bit = bloomBit(hash, i);
+                bloom[(int) (bit >>> 6)] |= 1L << bit;
+            }
+            int slot = (int) hash & tableMask;
+            while (table[slot] != EMPTY) {
+                slot = (slot + 1) & tableMask;
+            }
+            table[slot] = id;
+        }
+    }
+
+    /**
+     * Whether the word, in any case and with or without accents, is in the
+     * dictionary.
+     *
+     * @param word the candidate word
+     * @return true if it is a dictionary word
+     */
+    public boolean contains(String word) {
+        if (word == null || !LetterFolding.isValidWord(word)) {
+            return false;
+        }
+        long hash = hash(word);
+        for (int i = 0; i < BLOOM_PROBES; i++) {
+            long bit = bloomBit(hash, i);
+            if ((bloom[(int) (bit >>> 6)] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        for (int slot = (int) hash & tableMask; table[slot] != EMPTY; slot = (slot + 1) & tableMask) {
+            if (foldedEquals(word, foldedWords.get(table[slot]))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private long bloomBit(long hash, int probe) {
+        // double hashing: h1 + i * h2
+        long h = hash + probe * ((hash >>> 32) | 1);
+        return Math.floorMod(h, bloomBits);
+    }
+
+    /** FNV-1a over the folded letters, finished with a SplitMix64 mix. */
+    private static long hash(String word) {
+        long h = 0xCBF29CE484222325L;
+        for (int i = 0; i < word.length(); i++) {
+            h ^= LetterFolding.fold(word.charAt(i));
+            h *= 0x100000001B3L;
+        }
+        h = (h ^ (h >>> 30)) * 0xBF58476D1CE4E5B9L;
+        h = (h ^ (h >>> 27)) * 0x94D049BB133111EBL;
+        return h ^ (h >>> 31);
+    }
+
+    private static boolean foldedEquals(String word, String folded) {
+        if (word.length() != folded.length()) {
+            return false;
+        }
+        for (int i = 0; i < word.length(); i++) {
+            if (LetterFolding.fold(word.charAt(i)) != folded.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
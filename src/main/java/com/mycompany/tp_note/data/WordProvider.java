@@ -1,6 +1,12 @@
 package com.mycompany.tp_note.data;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 
 /**
  *
@@ -18,4 +24,44 @@ public interface WordProvider {
      * @throws IOException If an error occurs while retrieving the word.
      */
     String getWord() throws IOException;
+
+    /**
+     * Retrieves several words at once. The default implementation calls
+     * {@link #getWord()} {@code n} times.
+     * 
+     * @param n The number of words.
+     * @return The secret words.
+     * @throws IOException If an error occurs while retrieving the words.
+     */
+    default List<String> getWords(int n) throws IOException {
+        if (n < 1) {
+            throw new IllegalArgumentException("Must draw at least one word.");
+        }
+        List<String> words = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            words.add(getWord());
+        }
+        return words;
+    }
+
+    /**
+     * Retrieves a word without blocking the caller. The default
+     * implementation runs {@link #getWord()} on the given executor, which
+     * must suit the provider: a provider blocking on I/O or on the user
+     * (e.g. {@link ManualWordProvider}) needs its own threads, not the
+     * common fork/join pool.
+     * 
+     * @param executor Runs the word retrieval.
+     * @return A stage completed with the secret word, or exceptionally with
+     *         the {@link IOException} raised while retrieving it.
+     */
+    default CompletionStage<String> getWordAsync(Executor executor) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return getWord();
+            } catch (IOException e) {
+                throw new CompletionException(e);
+            }
+        }, executor);
+    }
 }
@@ -0,0 +1,83 @@
+package com.mycompany.tp_note.data;
+
+/**
+ * Serves a player every dictionary word exactly once, in a pseudo-random
+ * order, before any word repeats.
+ * <p>
+ * The order is an {@link IndexPermutation} of the word ids, so a player's
+ * whole history is captured by a seed and a cursor: persist
+ * {@link #getSeed()} and {@link #getCursor()}, and resume later with
+ * {@link #WordRotation(IndexedWordProvider, long, long)}. Each full pass
+ * over the dictionary uses a fresh permutation derived from the seed.
+ * </p>
+ * <p>
+ * Instances are not thread-safe; use one per player.
+ * </p>
+ */
+public class WordRotation implements WordProvider {
+
+    private final IndexedWordProvider words;
+    private final long seed;
+    private long cursor;
+    private IndexPermutation permutation;
+    private long permutationCycle = -1;
+
+    /**
+     * Starts a new rotation.
+     *
+     * @param words the dictionary to rotate through
+     * @param seed  the player's seed
+     */
+    public WordRotation(IndexedWordProvider words, long seed) {
+        this(words, seed, 0);
+    }
+
+    /**
+     * Resumes a rotation at the given position.
+     *
+     * @param words  the dictionary to rotate through
+     * @param seed   the player's seed
+     * @param cursor the number of words already served
+     */
+    public WordRotation(IndexedWordProvider words, long seed, long cursor) {
+        if (cursor < 0) {
+            throw new IllegalArgumentException("Cursor cannot be negative.");
+        }
+        this.words = words;
+        this.seed = seed;
+        this.cursor = cursor;
+    }
+
+    /**
+     * Returns the next word of the rotation.
+     *
+     * @return the next word
+     */
+    @Override
+    public String getWord() {
+        return words.getWord(nextIndex());
+    }
+
+    /**
+     * Returns the id of the next word of the rotation and advances.
+     *
+     * @return the next word id
+     */
+    public int nextIndex() {
+        int size = words.getSize();
+        long cycle = cursor / size;
+        if (cycle != permutationCycle) {
+            permutation = new IndexPermutation(size, seed + cycle * 0x632BE59BD9B4E019L);
+            permutationCycle = cycle;
+        }
+        return permutation.apply((int) (cursor++ % size));
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public long getCursor() {
+        return cursor;
+    }
+}
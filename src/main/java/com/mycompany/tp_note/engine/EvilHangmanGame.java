@@ -0,0 +1,160 @@
+package com.mycompany.tp_note.engine;
+
+import com.mycompany.tp_note.data.DictionaryWordProvider;
+import com.mycompany.tp_note.data.PatternIndex;
+
+import java.util.Arrays;
+
+/**
+ * Adversarial game where the computer never commits to a word.
+ * <p>
+ * Every dictionary word of the chosen length starts as a candidate. On each
+ * new guess the candidates are split into families by the positions the
+ * letter would occupy (none for a miss), and only the largest family is
+ * kept; ties go to the family revealing the fewest positions. The secret
+ * word then becomes a member of that family, so the regular rules, the
+ * {@link GameState} seen by the UI and the {@link GameController} loop work
+ * unchanged.
+ * </p>
+ * <p>
+ * A partition only sorts the position masks of the candidates containing
+ * the letter, in arrays reused from guess to guess.
+ * </p>
+ */
+public class EvilHangmanGame extends HangmanGame {
+
+    private final DictionaryWordProvider dictionary;
+    private final PatternIndex index;
+    private int[] candidates;
+    private int size;
+    private long[] signatures;
+    private int secretId;
+
+    /**
+     * Starts an evil game on the words of the given length.
+     * 
+     * @param dictionary aka the candidate words.
+     * @param length     aka the word length, 1 to 64.
+     * @param maxErrors  aka the maximum number of allowed errors.
+     */
+    public EvilHangmanGame(DictionaryWordProvider dictionary, int length, int maxErrors) {
+        this(dictionary, wordsOfLength(dictionary.getPatternIndex(), length), maxErrors);
+    }
+
+    private EvilHangmanGame(DictionaryWordProvider dictionary, int[] candidates, int maxErrors) {
+        super(dictionary.getWord(candidates[0]), dictionary.getFoldedWord(candidates[0]), maxErrors);
+        this.dictionary = dictionary;
+        this.index = dictionary.getPatternIndex();
+        this.candidates = candidates;
+        this.size = candidates.length;
+        this.signatures = new long[candidates.length];
+        this.secretId = candidates[0];
+    }
+
+    private static int[] wordsOfLength(PatternIndex index, int length) {
+        if (length < 1 || length > GameState.MAX_WORD_LENGTH) {
+            throw new IllegalArgumentException("Word length must be between 1 and " + GameState.MAX_WORD_LENGTH + ".");
+        }
+        long[] bits = new long[(index.size() + 63) >>> 6];
+        int count = index.matchInto("_".repeat(length), 0, bits);
+        if (count == 0) {
+            throw new IllegalArgumentException("No dictionary word has " + length + " letters.");
+        }
+        int[] ids = new int[count];
+        int n = 0;
+        for (int slot = 0; slot < bits.length; slot++) {
+            for (long word = bits[slot]; word != 0; word &= word - 1) {
+                ids[n++] = (slot << 6) + Long.numberOfTrailingZeros(word);
+            }
+        }
+        return ids;
+    }
+
+    @Override
+    public void guessLetter(char letter) {
+        GameState state = getState();
+        if (state.getCurrentStatus() == GameState.Status.PLAYING && Character.isLetter(letter)) {
+            char folded = LetterFolding.fold(letter);
+            if (folded >= 'A' && folded <= 'Z' && !state.isGuessed(folded)) {
+                keepLargestFamily(folded);
+            }
+        }
+        super.guessLetter(letter);
+    }
+
+    /**
+     * Narrows the candidates to the largest family for the letter, and moves
+     * the secret word into it if needed.
+     */
+    private void keepLargestFamily(char letter) {
+        int bit = 1 << (letter - 'A');
+        int hits = 0;
+        for (int i = 0; i < size; i++) {
+            if ((index.getLetterMask(candidates[i]) & bit) != 0) {
+                signatures[hits++] = positions(index.getWord(candidates[i]), letter);
+            }
+        }
+        Arrays.sort(signatures, 0, hits);
+
+        // the candidates without the letter form the family revealing nothing
+        long best = 0;
+        int bestCount = size - hits;
+        int run = 1;
+        for (int i = 1; i <= hits; i++) {
+            if (i < hits && signatures[i] == signatures[i - 1]) {
+                run++;
+                continue;
+            }
+            long family = signatures[i - 1];
+            if (run > bestCount || (run == bestCount && Long.bitCount(family) < Long.bitCount(best))) {
+                best = family;
+                bestCount = run;
+            }
+            run = 1;
+        }
+
+        int kept = 0;
+        boolean secretKept = false;
+        for (int i = 0; i < size; i++) {
+            int id = candidates[i];
+            long family = (index.getLetterMask(id) & bit) == 0 ? 0 : positions(index.getWord(id), letter);
+            if (family == best) {
+                candidates[kept++] = id;
+                secretKept |= id == secretId;
+            }
+        }
+        size = kept;
+        if (!secretKept) {
+            moveSecret(candidates[0]);
+        }
+    }
+
+    /**
+     * Replaces the secret word by another one showing the same progress:
+     * same length, revealed letters and misses. The state object is kept,
+     * so references held by the UI or a strategy stay current.
+     */
+    private void moveSecret(int id) {
+        getState().moveSecret(dictionary.getWord(id), dictionary.getFoldedWord(id));
+        secretId = id;
+    }
+
+    private static long positions(String word, char letter) {
+        long positions = 0;
+        for (int pos = 0; pos < word.length(); pos++) {
+            if (word.charAt(pos) == letter) {
+                positions |= 1L << pos;
+            }
+        }
+        return positions;
+    }
+
+    /**
+     * Returns the number of words still consistent with the game.
+     * 
+     * @return the current family size.
+     */
+    public int getCandidateCount() {
+        return size;
+    }
+}
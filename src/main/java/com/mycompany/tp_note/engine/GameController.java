@@ -1,15 +1,60 @@
 package com.mycompany.tp_note.engine;
 
 import com.mycompany.tp_note.engine.GameState.Status;
+import com.mycompany.tp_note.UI.GameView;
 import com.mycompany.tp_note.UI.UserInterface;
 
 /**
  * Orchestrates the game flow.
+ * <p>
+ * The controller reacts to the game events instead of polling the state:
+ * the UI is refreshed after each new guess and warned on repeats. Input
+ * firing no event at all (not a letter) is reported as invalid, so every
+ * letter played gets an answer.
+ * </p>
+ * <p>
+ * Given a {@link UserInterface}, {@link #startGame()} runs the blocking
+ * loop. Given a display-only {@link GameView}, the controller is driven in
+ * push mode with {@link #begin()} and {@link #play(char)}.
+ * </p>
  */
 public class GameController {
 
     private final HangmanGame game;
+    private final GameView view;
+    /** Null in push mode. */
     private final UserInterface ui;
+    private boolean finished;
+    /** Whether the game fired an event for the letter being played. */
+    private boolean answered;
+
+    private final GameListener listener = new GameListener() {
+        @Override
+        public void onHit(char letter, long positions) {
+            refresh();
+        }
+
+        @Override
+        public void onMiss(char letter, int errorsCount) {
+            refresh();
+        }
+
+        @Override
+        public void onDuplicate(char letter) {
+            answered = true;
+            view.displayAlreadyGuessed(letter);
+        }
+
+        @Override
+        public void onWon() {
+            finished = true;
+        }
+
+        @Override
+        public void onLost() {
+            finished = true;
+        }
+    };
 
     /**
      * Initializes the controller with the game logic and user interface.
@@ -19,22 +64,84 @@ public class GameController {
      */
     public GameController(HangmanGame game, UserInterface ui) {
         this.game = game;
+        this.view = ui;
         this.ui = ui;
     }
 
+    /**
+     * Initializes a push-mode controller, whose letters are fed with
+     * {@link #play(char)}.
+     * 
+     * @param game The game engine.
+     * @param view The display.
+     */
+    public GameController(HangmanGame game, GameView view) {
+        this.game = game;
+        this.view = view;
+        this.ui = null;
+    }
+
     /**
      * Starts and manages the game loop.
+     * 
+     * @throws IllegalStateException if the controller has no input (push mode).
      */
     public void startGame() {
-        while (game.getState().getCurrentStatus() == Status.PLAYING) {
-            ui.displayGameState(game.getState());
-            char letter = ui.askForLetter();
-            if (game.getState().getGuessedLetters().contains(Character.toUpperCase(letter))) {
-                ui.displayAlreadyGuessed(letter);
-            } else {
-                game.guessLetter(letter);
+        if (ui == null) {
+            throw new IllegalStateException("No user input: feed letters with play(char).");
+        }
+        begin();
+        try {
+            while (!finished) {
+                play(ui.askForLetter());
             }
+        } finally {
+            game.removeListener(listener);
+        }
+    }
+
+    /**
+     * Starts the game without blocking, for front ends that receive letters
+     * asynchronously: subscribes to the game and displays its state, or its
+     * end if it is already over. Letters are then fed with
+     * {@link #play(char)}.
+     */
+    public void begin() {
+        finished = game.getState().getCurrentStatus() != Status.PLAYING;
+        if (finished) {
+            view.displayEndGame(game.getState());
+            return;
+        }
+        game.addListener(listener);
+        view.displayGameState(game.getState());
+    }
+
+    /**
+     * Plays one letter of a game started with {@link #begin()}. When the game
+     * ends, its end is displayed and the controller unsubscribes.
+     * 
+     * @param letter The letter proposed by the player.
+     * @return true while the game goes on.
+     */
+    public boolean play(char letter) {
+        if (finished) {
+            return false;
+        }
+        answered = false;
+        game.guessLetter(letter);
+        if (finished) {
+            game.removeListener(listener);
+            view.displayEndGame(game.getState());
+        } else if (!answered) {
+            view.displayInvalidLetter(letter);
+        }
+        return !finished;
+    }
+
+    private void refresh() {
+        answered = true;
+        if (game.getState().getCurrentStatus() == Status.PLAYING) {
+            view.displayGameState(game.getState());
         }
-        ui.displayEndGame(game.getState());
     }
 }
@@ -0,0 +1,47 @@
+package com.mycompany.tp_note.engine;
+
+/**
+ * Receives the events of a {@link HangmanGame} as they happen.
+ * <p>
+ * Events carry primitives only, so dispatching them allocates nothing.
+ * Every method has an empty default: a subscriber overrides the events it
+ * cares about. Callbacks run on the guessing thread, after the state has
+ * been updated.
+ * </p>
+ */
+public interface GameListener {
+
+    /**
+     * A new letter is in the word.
+     *
+     * @param letter    the guessed letter, folded to {@code A-Z}
+     * @param positions the positions it occupies (bit i = index i)
+     */
+    default void onHit(char letter, long positions) {
+    }
+
+    /**
+     * A new letter is not in the word.
+     *
+     * @param letter      the guessed letter, folded to {@code A-Z}
+     * @param errorsCount the errors count after this miss
+     */
+    default void onMiss(char letter, int errorsCount) {
+    }
+
+    /**
+     * A letter was proposed again; the game did not change.
+     *
+     * @param letter the letter as proposed
+     */
+    default void onDuplicate(char letter) {
+    }
+
+    /** The last hidden letter was found. */
+    default void onWon() {
+    }
+
+    /** The error limit was reached. */
+    default void onLost() {
+    }
+}
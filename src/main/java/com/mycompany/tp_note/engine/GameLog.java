@@ -0,0 +1,256 @@
+package com.mycompany.tp_note.engine;
+
+import com.mycompany.tp_note.engine.GameState.Status;
+
+import java.nio.ByteBuffer;
+import java.util.function.IntFunction;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Event log of a game session: the dictionary word id, the error limit and
+ * the ordered guesses, each packed as a 5-bit letter ({@code A}=0 ...
+ * {@code Z}=25). A letter is logged at most once, as a repeated guess
+ * changes nothing.
+ * <p>
+ * A game is fully determined by its log, so a {@link GameState} can be
+ * rebuilt at any point with {@link #replay(IntFunction, int)}. For bulk
+ * audits, logs are serialized back to back with {@link #writeTo(ByteBuffer)}
+ * and scanned by {@link #countOutcomes(ByteBuffer, IntUnaryOperator)}, which
+ * works on the packed bits and a per-word letter mask without creating any
+ * object.
+ * </p>
+ * <p>
+ * Serialized layout: {@code int wordId, byte maxErrors, byte guessCount},
+ * then {@code ceil(guessCount * 5 / 8)} bytes of guesses, low bits first.
+ * </p>
+ */
+public class GameLog {
+
+    /** Maximum number of recorded guesses: each letter at most once. */
+    public static final int MAX_GUESSES = 26;
+
+    private static final int BITS = 5;
+    private static final int LETTER_MASK = (1 << BITS) - 1;
+    private static final int HEADER_BYTES = Integer.BYTES + 2;
+
+    private final int wordId;
+    private final int maxErrors;
+    /** 26 guesses x 5 bits = 130 bits. */
+    private final long[] packed = new long[3];
+    private int size;
+    /** Logged letters (bit 0 = 'A'). */
+    private int guessed;
+
+    /**
+     * Starts an empty log.
+     *
+     * @param wordId    the secret word's dictionary id
+     * @param maxErrors the error limit, 1 to 127
+     */
+    public GameLog(int wordId, int maxErrors) {
+        if (maxErrors < 1 || maxErrors > Byte.MAX_VALUE) {
+            throw new IllegalArgumentException("Max errors must be between 1 and 127.");
+        }
+        this.wordId = wordId;
+        this.maxErrors = maxErrors;
+    }
+
+    public int getWordId() {
+        return wordId;
+    }
+
+    public int getMaxErrors() {
+        return maxErrors;
+    }
+
+    /**
+     * Returns the number of recorded guesses.
+     *
+     * @return the log length
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Records a guess.
+     *
+     * @param letter the guessed letter, uppercase {@code A-Z}
+     * @throws IllegalArgumentException if the letter is not {@code A-Z} or
+     *                                  is already logged
+     */
+    public void append(char letter) {
+        if (letter < 'A' || letter > 'Z') {
+            throw new IllegalArgumentException("Only letters A-Z can be logged: " + letter);
+        }
+        if (size == MAX_GUESSES) {
+            throw new IllegalStateException("Log is full.");
+        }
+        if ((guessed & 1 << (letter - 'A')) != 0) {
+            throw new IllegalArgumentException("Letter already logged: " + letter);
+        }
+        guessed |= 1 << (letter - 'A');
+        int bit = size * BITS;
+        long code = letter - 'A';
+        packed[bit >>> 6] |= code << bit;
+        if ((bit & 63) > 64 - BITS) {
+            packed[(bit >>> 6) + 1] |= code >>> (64 - (bit & 63));
+        }
+        size++;
+    }
+
+    /**
+     * Returns a recorded guess.
+     *
+     * @param index the guess number, from 0
+     * @return the guessed letter
+     */
+    public char letterAt(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Guess index out of range: " + index);
+        }
+        int bit = index * BITS;
+        long code = packed[bit >>> 6] >>> bit;
+        if ((bit & 63) > 64 - BITS) {
+            code |= packed[(bit >>> 6) + 1] << (64 - (bit & 63));
+        }
+        return (char) ('A' + (code & LETTER_MASK));
+    }
+
+    /**
+     * Rebuilds the final state of the game.
+     *
+     * @param wordById resolves word ids (e.g. {@code dictionary::getWord})
+     * @return the replayed state
+     */
+    public GameState replay(IntFunction<String> wordById) {
+        return replay(wordById, size);
+    }
+
+    /**
+     * Rebuilds the state of the game after its first {@code guesses} guesses.
+     *
+     * @param wordById resolves word ids (e.g. {@code dictionary::getWord})
+     * @param guesses  the number of guesses to apply
+     * @return the replayed state
+     */
+    public GameState replay(IntFunction<String> wordById, int guesses) {
+        if (guesses < 0 || guesses > size) {
+            throw new IndexOutOfBoundsException("Cannot replay " + guesses + " guesses out of " + size);
+        }
+        HangmanGame game = new HangmanGame(wordById.apply(wordId), maxErrors);
+        for (int i = 0; i < guesses; i++) {
+            game.guessLetter(letterAt(i));
+        }
+        return game.getState();
+    }
+
+    /**
+     * Returns the serialized size of this log.
+     *
+     * @return the number of bytes written by {@link #writeTo(ByteBuffer)}
+     */
+    public int encodedSize() {
+        return HEADER_BYTES + (size * BITS + 7) / 8;
+    }
+
+    /**
+     * Appends the compact encoding of this log at the buffer's position.
+     *
+     * @param buffer the destination
+     */
+    public void writeTo(ByteBuffer buffer) {
+        buffer.putInt(wordId);
+        buffer.put((byte) maxErrors);
+        buffer.put((byte) size);
+        int bytes = (size * BITS + 7) / 8;
+        for (int i = 0; i < bytes; i++) {
+            buffer.put((byte) (packed[i >>> 3] >>> ((i & 7) * 8)));
+        }
+    }
+
+    /**
+     * Reads a log written by {@link #writeTo(ByteBuffer)} at the buffer's
+     * position.
+     *
+     * @param buffer the source
+     * @return the decoded log
+     */
+    public static GameLog readFrom(ByteBuffer buffer) {
+        GameLog log = new GameLog(buffer.getInt(), buffer.get());
+        int count = buffer.get();
+        if (count < 0 || count > MAX_GUESSES) {
+            throw new IllegalArgumentException("Corrupt game log: " + count + " guesses");
+        }
+        int bytes = (count * BITS + 7) / 8;
+        for (int i = 0; i < bytes; i++) {
+            log.packed[i >>> 3] |= (buffer.get() & 0xFFL) << ((i & 7) * 8);
+        }
+        log.size = count;
+        for (int i = 0; i < count; i++) {
+            int letter = 1 << (log.letterAt(i) - 'A');
+            if ((log.guessed & letter) != 0) {
+                throw new IllegalArgumentException("Corrupt game log: repeated letter " + log.letterAt(i));
+            }
+            log.guessed |= letter;
+        }
+        return log;
+    }
+
+    /**
+     * Replays every log between the buffer's position and limit, using only
+     * the letters of each secret word, and counts the outcomes. Repeated
+     * letters, which only a corrupt log holds, are skipped as a game
+     * would. The buffer position is left at the limit.
+     *
+     * @param logs           serialized logs, back to back
+     * @param wordLetterMask letters A-Z of each word id (bit 0 = 'A')
+     * @return counts indexed by {@link Status#ordinal()}
+     */
+    public static long[] countOutcomes(ByteBuffer logs, IntUnaryOperator wordLetterMask) {
+        long[] counts = new long[Status.values().length];
+        while (logs.hasRemaining()) {
+            counts[replayStatus(logs, wordLetterMask).ordinal()]++;
+        }
+        return counts;
+    }
+
+    /**
+     * Replays one serialized log from its letters and advances past it.
+     */
+    private static Status replayStatus(ByteBuffer logs, IntUnaryOperator wordLetterMask) {
+        int remaining = wordLetterMask.applyAsInt(logs.getInt());
+        int errorsLeft = logs.get();
+        int count = logs.get();
+        int bytes = (count * BITS + 7) / 8;
+        int start = logs.position();
+        logs.position(start + bytes);
+
+        long bits = 0;
+        int available = 0;
+        int next = start;
+        int guessed = 0;
+        for (int i = 0; i < count; i++) {
+            if (available < BITS) {
+                bits |= (logs.get(next++) & 0xFFL) << available;
+                available += 8;
+            }
+            int letter = 1 << (int) (bits & LETTER_MASK);
+            bits >>>= BITS;
+            available -= BITS;
+            if ((guessed & letter) != 0) {
+                continue;
+            }
+            guessed |= letter;
+            if ((remaining & letter) != 0) {
+                remaining &= ~letter;
+                if (remaining == 0) {
+                    return Status.WON;
+                }
+            } else if (--errorsLeft == 0) {
+                return Status.LOST;
+            }
+        }
+        return Status.PLAYING;
+    }
+}
@@ -0,0 +1,313 @@
+package com.mycompany.tp_note.engine;
+
+import com.mycompany.tp_note.data.WordProvider;
+import com.mycompany.tp_note.engine.GameState.Status;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Hosts many concurrent games, addressed by session id.
+ * <p>
+ * Sessions live in a {@link ConcurrentHashMap}, so creating and looking up
+ * sessions never takes a global lock. Each session is guarded by its own
+ * monitor: guesses on different sessions never contend, while guesses on
+ * the same session are applied one at a time, exactly as a single-threaded
+ * {@link HangmanGame#guessLetter(char)} would.
+ * </p>
+ * <p>
+ * A manager may be bounded: it then hosts at most a given number of
+ * sessions, and {@link #evictExpired()} drops the sessions left idle for
+ * too long, and the finished ones a fixed time after they end. Eviction
+ * runs when the limit is reached, or periodically with
+ * {@link #evictEvery(Duration)}.
+ * </p>
+ */
+public class GameSessionManager implements AutoCloseable {
+
+    private final ConcurrentHashMap<Long, Session> sessions = new ConcurrentHashMap<>();
+    private final AtomicLong nextId = new AtomicLong(1);
+    private final AtomicInteger live = new AtomicInteger();
+    private final WordProvider words;
+    private final int maxSessions;
+    private final long idleNanos;
+    private final long endedNanos;
+    private ScheduledExecutorService evicter;
+
+    /**
+     * Creates an unbounded manager drawing secret words from the given
+     * provider. Its sessions live until removed.
+     *
+     * @param words the word source, shared by all sessions (must be thread-safe)
+     */
+    public GameSessionManager(WordProvider words) {
+        this(words, Integer.MAX_VALUE, Long.MAX_VALUE, Long.MAX_VALUE);
+    }
+
+    /**
+     * Creates a bounded manager drawing secret words from the given provider.
+     *
+     * @param words        the word source, shared by all sessions (must be thread-safe)
+     * @param maxSessions  the maximum number of hosted sessions
+     * @param idleTimeout  how long a game in progress lives without being played or read
+     * @param endedTimeout how long a finished game lives after its last guess
+     */
+    public GameSessionManager(WordProvider words, int maxSessions, Duration idleTimeout, Duration endedTimeout) {
+        this(words, maxSessions, idleTimeout.toNanos(), endedTimeout.toNanos());
+    }
+
+    private GameSessionManager(WordProvider words, int maxSessions, long idleNanos, long endedNanos) {
+        if (maxSessions < 1) {
+            throw new IllegalArgumentException("Max sessions must be at least 1.");
+        }
+        if (idleNanos < 0 || endedNanos < 0) {
+            throw new IllegalArgumentException("Timeouts must not be negative.");
+        }
+        this.words = words;
+        this.maxSessions = maxSessions;
+        this.idleNanos = idleNanos;
+        this.endedNanos = endedNanos;
+    }
+
+    /**
+     * Starts a session with a word drawn from the provider.
+     *
+     * @param maxErrors the error limit
+     * @return the new session id
+     * @throws IOException if no word can be drawn
+     */
+    public long createSession(int maxErrors) throws IOException {
+        return createSession(words.getWord(), maxErrors);
+    }
+
+    /**
+     * Starts a session with the given word.
+     *
+     * @param secretWord the word to guess
+     * @param maxErrors  the error limit
+     * @return the new session id
+     */
+    public long createSession(String secretWord, int maxErrors) {
+        return register(new HangmanGame(secretWord, maxErrors));
+    }
+
+    /**
+     * Hosts an existing game (e.g. a resumed or event-sourced one).
+     * The caller must not use the game directly afterwards.
+     *
+     * @param game the game to host
+     * @return the new session id
+     * @throws IllegalStateException if the session limit is reached, even
+     *                               after evicting the expired sessions
+     */
+    public long register(HangmanGame game) {
+        if (!reserve()) {
+            evictExpired();
+            if (!reserve()) {
+                throw new IllegalStateException("Session limit reached: " + maxSessions + ".");
+            }
+        }
+        Session session = new Session(game);
+        synchronized (session) {
+            session.touch(System.nanoTime());
+        }
+        long id = nextId.getAndIncrement();
+        sessions.put(id, session);
+        return id;
+    }
+
+    private boolean reserve() {
+        if (live.incrementAndGet() <= maxSessions) {
+            return true;
+        }
+        live.decrementAndGet();
+        return false;
+    }
+
+    /**
+     * Applies a guess to a session.
+     *
+     * @param sessionId the session id
+     * @param letter    the guessed letter
+     * @return the session status after the guess
+     * @throws IllegalArgumentException if the session does not exist
+     */
+    public Status guess(long sessionId, char letter) {
+        return guess(sessionId, letter, GameState::getCurrentStatus);
+    }
+
+    /**
+     * Applies a guess to a session and reads the resulting state before
+     * any other guess on it. The state must not escape the function.
+     *
+     * @param sessionId the session id
+     * @param letter    the guessed letter
+     * @param reader    the function reading the state after the guess
+     * @param <T>       the result type
+     * @return the function result
+     * @throws IllegalArgumentException if the session does not exist
+     */
+    public <T> T guess(long sessionId, char letter, Function<GameState, T> reader) {
+        Session session = lookup(sessionId);
+        synchronized (session) {
+            session.game.guessLetter(letter);
+            session.touch(System.nanoTime());
+            return reader.apply(session.game.getState());
+        }
+    }
+
+    /**
+     * Returns a consistent copy of a session's state.
+     *
+     * @param sessionId the session id
+     * @return the snapshot
+     * @throws IllegalArgumentException if the session does not exist
+     */
+    public GameSnapshot snapshot(long sessionId) {
+        return read(sessionId, GameSnapshot::of);
+    }
+
+    /**
+     * Runs a read-only function on a session's state while holding the
+     * session. The state must not escape the function.
+     *
+     * @param sessionId the session id
+     * @param reader    the function reading the state
+     * @param <T>       the result type
+     * @return the function result
+     * @throws IllegalArgumentException if the session does not exist
+     */
+    public <T> T read(long sessionId, Function<GameState, T> reader) {
+        Session session = lookup(sessionId);
+        synchronized (session) {
+            session.touch(System.nanoTime());
+            return reader.apply(session.game.getState());
+        }
+    }
+
+    /**
+     * Ends a session.
+     *
+     * @param sessionId the session id
+     * @return true if the session existed
+     */
+    public boolean remove(long sessionId) {
+        if (sessions.remove(sessionId) == null) {
+            return false;
+        }
+        live.decrementAndGet();
+        return true;
+    }
+
+    /**
+     * Removes the games in progress left idle for longer than the idle
+     * timeout, and the finished games ended for longer than the ended
+     * timeout. Does nothing on an unbounded manager.
+     *
+     * @return the number of evicted sessions
+     */
+    public int evictExpired() {
+        long now = System.nanoTime();
+        int evicted = 0;
+        for (Map.Entry<Long, Session> entry : sessions.entrySet()) {
+            if (entry.getValue().isExpired(now, idleNanos, endedNanos)
+                    && sessions.remove(entry.getKey(), entry.getValue())) {
+                live.decrementAndGet();
+                evicted++;
+            }
+        }
+        return evicted;
+    }
+
+    /**
+     * Starts a daemon thread calling {@link #evictExpired()} at a fixed
+     * interval.
+     *
+     * @param interval the time between two sweeps
+     */
+    public synchronized void evictEvery(Duration interval) {
+        if (evicter != null) {
+            throw new IllegalStateException("Periodic eviction already started.");
+        }
+        evicter = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "session-evict");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long millis = Math.max(1, interval.toMillis());
+        evicter.scheduleWithFixedDelay(this::evictExpired, millis, millis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Whether a session exists.
+     *
+     * @param sessionId the session id
+     * @return true if the session is hosted
+     */
+    public boolean contains(long sessionId) {
+        return sessions.containsKey(sessionId);
+    }
+
+    /**
+     * Returns the number of hosted sessions.
+     *
+     * @return the session count
+     */
+    public int size() {
+        return sessions.size();
+    }
+
+    /**
+     * Stops the periodic eviction, if any. Sessions remain usable.
+     */
+    @Override
+    public synchronized void close() {
+        if (evicter != null) {
+            evicter.shutdown();
+            evicter = null;
+        }
+    }
+
+    private Session lookup(long sessionId) {
+        Session session = sessions.get(sessionId);
+        if (session == null) {
+            throw new IllegalArgumentException("Unknown session: " + sessionId);
+        }
+        return session;
+    }
+
+    /**
+     * A hosted game and its access times, updated under its monitor and
+     * read without it by {@link #evictExpired()}.
+     */
+    private static final class Session {
+        final HangmanGame game;
+        volatile long lastAccess;
+        volatile long endedAt;
+        volatile boolean ended;
+
+        Session(HangmanGame game) {
+            this.game = game;
+        }
+
+        void touch(long now) {
+            lastAccess = now;
+            if (!ended && game.getState().getCurrentStatus() != Status.PLAYING) {
+                endedAt = now;
+                ended = true;
+            }
+        }
+
+        boolean isExpired(long now, long idleNanos, long endedNanos) {
+            return ended ? now - endedAt >= endedNanos : now - lastAccess >= idleNanos;
+        }
+    }
+}
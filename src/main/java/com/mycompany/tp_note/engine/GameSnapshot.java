@@ -0,0 +1,26 @@
+package com.mycompany.tp_note.engine;
+
+import com.mycompany.tp_note.engine.GameState.Status;
+
+/**
+ * Immutable copy of a game's visible state, safe to hand to other threads.
+ *
+ * @param maskedWord   the masked word (e.g. "A _ B _")
+ * @param guessedMask  the guessed letters A-Z, bit 0 = 'A'
+ * @param errorsCount  the number of errors so far
+ * @param maxErrors    the error limit
+ * @param status       the game status
+ */
+public record GameSnapshot(String maskedWord, int guessedMask, int errorsCount, int maxErrors, Status status) {
+
+    /**
+     * Copies the given state. The caller must own the state while copying.
+     *
+     * @param state the game state
+     * @return its snapshot
+     */
+    public static GameSnapshot of(GameState state) {
+        return new GameSnapshot(state.getMaskedWord(), state.guessedMask(), state.getErrorsCount(),
+                state.getMaxErrors(), state.getCurrentStatus());
+    }
+}
@@ -1,5 +1,6 @@
 package com.mycompany.tp_note.engine;
 
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -12,8 +13,25 @@ public class GameState {
         PLAYING, WON, LOST
     }
 
-    private final String secretWord;
-    private final Set<Character> guessedLetters;
+    /** Longest playable word: one bit per position in a {@code long} mask. */
+    public static final int MAX_WORD_LENGTH = Long.SIZE;
+
+    /** The secret word fields only change through {@link #moveSecret}. */
+    private String secretWord;
+    private String foldedWord;
+    /** Letters A-Z of the folded word, bit 0 = 'A'. */
+    private int wordLetters;
+    /** Per letter A-Z, the positions (bit i = index i) where it occurs. */
+    private final long[] positionMasks = new long[26];
+    /** Whether the folded word holds characters outside A-Z. */
+    private boolean hasOtherLetters;
+    /** Masked word as displayed ("A _ B _"), updated as letters are revealed. */
+    private final char[] masked;
+    private final CharSequence maskedView;
+    /** Guessed letters A-Z, bit 0 = 'A'. */
+    private int guessedMask;
+    /** Guessed letters outside A-Z (letters with no A-Z base), rarely used. */
+    private Set<Character> otherGuessedLetters;
     private int errorsCount;
     private final int maxErrors;
     private Status currentStatus;
@@ -25,19 +43,211 @@ public class GameState {
      * @param maxErrors  aka maximum allowed errors.
      */
     public GameState(String secretWord, int maxErrors) {
-        this.secretWord = secretWord.toUpperCase();
-        this.guessedLetters = new HashSet<>();
+        this(secretWord, LetterFolding.fold(secretWord), maxErrors);
+    }
+
+    /**
+     * Creates a new game state from a word whose accent-folded form was
+     * computed beforehand (e.g. at dictionary load time).
+     * 
+     * @param secretWord aka the word to guess, as displayed.
+     * @param foldedWord aka the same word folded to A-Z, as matched.
+     * @param maxErrors  aka maximum allowed errors.
+     * @throws IllegalArgumentException if the words differ in length or are
+     *                                  longer than {@link #MAX_WORD_LENGTH}.
+     */
+    public GameState(String secretWord, String foldedWord, int maxErrors) {
+        if (foldedWord.length() != secretWord.length()) {
+            throw new IllegalArgumentException("Folded word must have the same length as the secret word.");
+        }
+        if (foldedWord.length() > MAX_WORD_LENGTH) {
+            throw new IllegalArgumentException("Secret word must be at most " + MAX_WORD_LENGTH + " letters.");
+        }
+        this.secretWord = upperCase(secretWord);
+        this.foldedWord = foldedWord;
+        indexLetters();
+
+        this.masked = new char[Math.max(0, 2 * foldedWord.length() - 1)];
+        for (int i = 0; i < masked.length; i++) {
+            masked[i] = (i % 2 == 0) ? '_' : ' ';
+        }
+        this.maskedView = new MaskedView();
         this.errorsCount = 0;
         this.maxErrors = maxErrors;
         this.currentStatus = Status.PLAYING;
     }
 
+    /** Computes the letter and position masks of the folded word. */
+    private void indexLetters() {
+        int letters = 0;
+        boolean others = false;
+        for (int i = 0; i < foldedWord.length(); i++) {
+            char c = foldedWord.charAt(i);
+            if (c >= 'A' && c <= 'Z') {
+                letters |= 1 << (c - 'A');
+                positionMasks[c - 'A'] |= 1L << i;
+            } else {
+                others = true;
+            }
+        }
+        this.wordLetters = letters;
+        this.hasOtherLetters = others;
+    }
+
+    /**
+     * Retargets this state to another secret word of the same length, in
+     * place: guesses, errors and status are kept, and the masked word is
+     * rebuilt from the guesses. Used by evil mode, so that every reference
+     * to this state stays current.
+     * 
+     * @param word   aka the new secret word, as displayed.
+     * @param folded aka the same word folded to A-Z.
+     */
+    void moveSecret(String word, String folded) {
+        if (word.length() != foldedWord.length() || folded.length() != foldedWord.length()) {
+            throw new IllegalArgumentException("The moved secret word must keep the same length.");
+        }
+        this.secretWord = upperCase(word);
+        this.foldedWord = folded;
+        Arrays.fill(positionMasks, 0L);
+        indexLetters();
+        for (int i = 0; i < masked.length; i += 2) {
+            masked[i] = '_';
+        }
+        for (int mask = guessedMask; mask != 0; mask &= mask - 1) {
+            reveal((char) ('A' + Integer.numberOfTrailingZeros(mask)));
+        }
+        if (otherGuessedLetters != null) {
+            for (char letter : otherGuessedLetters) {
+                reveal(letter);
+            }
+        }
+    }
+
+    /**
+     * Uppercases letter by letter, so the result stays aligned with the
+     * folded word (String.toUpperCase turns ß into SS).
+     */
+    private static String upperCase(String word) {
+        char[] chars = word.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toUpperCase(chars[i]);
+        }
+        return new String(chars);
+    }
+
     public String getSecretWord() {
         return secretWord;
     }
 
+    /**
+     * Returns the secret word folded to A-Z (É→E, Ç→C, ...), against which
+     * guesses are matched.
+     * 
+     * @return the folded secret word.
+     */
+    public String getFoldedWord() {
+        return foldedWord;
+    }
+
+    /**
+     * Returns a copy of the guessed letters. Prefer {@link #isGuessed(char)}
+     * or {@link #guessedMask()} on hot paths, which do not allocate.
+     * 
+     * @return the guessed letters.
+     */
     public Set<Character> getGuessedLetters() {
-        return new HashSet<>(guessedLetters);
+        Set<Character> letters = otherGuessedLetters == null
+                ? new HashSet<>() : new HashSet<>(otherGuessedLetters);
+        for (int mask = guessedMask; mask != 0; mask &= mask - 1) {
+            letters.add((char) ('A' + Integer.numberOfTrailingZeros(mask)));
+        }
+        return letters;
+    }
+
+    /**
+     * Whether letters outside A-Z were guessed, i.e. whether
+     * {@link #getGuessedLetters()} holds more than {@link #guessedMask()}.
+     * 
+     * @return true if such a letter was guessed.
+     */
+    public boolean hasOtherGuessedLetters() {
+        return otherGuessedLetters != null;
+    }
+
+    /**
+     * Whether the letter has been guessed; same as
+     * {@code getGuessedLetters().contains(letter)} without the copy.
+     * 
+     * @param letter aka the letter, as stored (uppercase, folded).
+     * @return true if already guessed.
+     */
+    public boolean isGuessed(char letter) {
+        if (letter >= 'A' && letter <= 'Z') {
+            return (guessedMask & (1 << (letter - 'A'))) != 0;
+        }
+        return otherGuessedLetters != null && otherGuessedLetters.contains(letter);
+    }
+
+    /**
+     * Returns the guessed letters A-Z as a bitmask.
+     * 
+     * @return the mask, bit 0 = 'A' ... bit 25 = 'Z'.
+     */
+    public int guessedMask() {
+        return guessedMask;
+    }
+
+    /**
+     * Whether the secret word contains the letter.
+     * 
+     * @param letter aka the letter, uppercase and folded.
+     * @return true if it occurs in the word.
+     */
+    public boolean containsLetter(char letter) {
+        if (letter >= 'A' && letter <= 'Z') {
+            return (wordLetters & (1 << (letter - 'A'))) != 0;
+        }
+        return hasOtherLetters && foldedWord.indexOf(letter) >= 0;
+    }
+
+    /**
+     * Returns the letters A-Z of the secret word as a bitmask.
+     * 
+     * @return the mask, bit 0 = 'A' ... bit 25 = 'Z'.
+     */
+    public int letterMask() {
+        return wordLetters;
+    }
+
+    /**
+     * Returns the positions of a letter in the secret word.
+     * 
+     * @param letter aka the letter, uppercase A-Z.
+     * @return the mask, bit i set when the letter is at index i.
+     */
+    public long positionMask(char letter) {
+        if (letter < 'A' || letter > 'Z') {
+            return 0L;
+        }
+        return positionMasks[letter - 'A'];
+    }
+
+    /**
+     * Returns how many distinct letters of the word are still hidden.
+     * 
+     * @return the number of letters left to find.
+     */
+    public int remainingLetterCount() {
+        int remaining = Integer.bitCount(wordLetters & ~guessedMask);
+        if (hasOtherLetters) {
+            remaining += (int) foldedWord.chars()
+                    .filter(c -> c < 'A' || c > 'Z')
+                    .distinct()
+                    .filter(c -> !isGuessed((char) c))
+                    .count();
+        }
+        return remaining;
     }
 
     public int getErrorsCount() {
@@ -53,7 +263,34 @@ public class GameState {
     }
 
     public void addGuessedLetter(char letter) {
-        guessedLetters.add(letter);
+        if (letter >= 'A' && letter <= 'Z') {
+            guessedMask |= 1 << (letter - 'A');
+        } else {
+            if (otherGuessedLetters == null) {
+                otherGuessedLetters = new HashSet<>();
+            }
+            otherGuessedLetters.add(letter);
+        }
+        reveal(letter);
+    }
+
+    /** Writes the letter into the masked word at the positions it occupies. */
+    private void reveal(char letter) {
+        if (letter >= 'A' && letter <= 'Z') {
+            for (long positions = positionMasks[letter - 'A']; positions != 0; positions &= positions - 1) {
+                int i = Long.numberOfTrailingZeros(positions);
+                masked[2 * i] = secretWord.charAt(i);
+            }
+            return;
+        }
+        if (!containsLetter(letter)) {
+            return;
+        }
+        for (int i = 0; i < foldedWord.length(); i++) {
+            if (foldedWord.charAt(i) == letter) {
+                masked[2 * i] = secretWord.charAt(i);
+            }
+        }
     }
 
     public void incrementErrors() {
@@ -70,16 +307,29 @@ public class GameState {
      * @return String representation of known letters and underscores.
      */
     public String getMaskedWord() {
-        StringBuilder sb = new StringBuilder();
-        for (char c : secretWord.toCharArray()) {
-            if (guessedLetters.contains(c)) {
-                sb.append(c);
-            } else {
-                sb.append('_');
-            }
-            sb.append(' ');
-        }
-        return sb.toString().trim();
+        return new String(masked);
+    }
+
+    /**
+     * Returns a live, read-only view of the masked word, without copying.
+     * It reflects later guesses.
+     * 
+     * @return the masked word (e.g., "A _ B _").
+     */
+    public CharSequence maskedView() {
+        return maskedView;
+    }
+
+    /**
+     * Copies the masked word into a caller-supplied buffer.
+     * 
+     * @param dst    aka the destination buffer.
+     * @param offset aka where to start writing.
+     * @return the number of chars written.
+     */
+    public int writeMaskedWord(char[] dst, int offset) {
+        System.arraycopy(masked, 0, dst, offset, masked.length);
+        return masked.length;
     }
 
     /**
@@ -88,11 +338,33 @@ public class GameState {
      * @return true if all letters in secretWord have been guessed.
      */
     public boolean isWordGuessed() {
-        for (char c : secretWord.toCharArray()) {
-            if (!guessedLetters.contains(c)) {
-                return false;
-            }
+        if ((wordLetters & ~guessedMask) != 0) {
+            return false;
+        }
+        return !hasOtherLetters || remainingLetterCount() == 0;
+    }
+
+    /** Read-only window on the masked buffer. */
+    private final class MaskedView implements CharSequence {
+
+        @Override
+        public int length() {
+            return masked.length;
+        }
+
+        @Override
+        public char charAt(int index) {
+            return masked[index];
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return new String(masked, start, end - start);
+        }
+
+        @Override
+        public String toString() {
+            return new String(masked);
         }
-        return true;
     }
 }
@@ -2,12 +2,20 @@ package com.mycompany.tp_note.engine;
 
 import com.mycompany.tp_note.engine.GameState.Status;
 
+import java.util.Arrays;
+import java.util.function.IntFunction;
+
 /**
  * Core game logic for Hangman.
  */
 public class HangmanGame {
 
+    private static final GameListener[] NO_LISTENERS = {};
+
     private final GameState state;
+    private final GameLog log;
+    /** Copied on change, so firing iterates a stable array. */
+    private GameListener[] listeners = NO_LISTENERS;
 
     /**
      * Initializes a new game.
@@ -16,13 +24,62 @@ public class HangmanGame {
      * @param maxErrors  aka the maximum number of allowed errors.
      */
     public HangmanGame(String secretWord, int maxErrors) {
+        validate(secretWord, maxErrors);
+        this.state = new GameState(secretWord, maxErrors);
+        this.log = null;
+    }
+
+    /**
+     * Initializes a new game from a word whose accent-folded form is already
+     * known, avoiding folding it again.
+     * 
+     * @param secretWord aka the word to be guessed, as displayed.
+     * @param foldedWord aka the same word folded to A-Z.
+     * @param maxErrors  aka the maximum number of allowed errors.
+     */
+    public HangmanGame(String secretWord, String foldedWord, int maxErrors) {
+        validate(secretWord, maxErrors);
+        this.state = new GameState(secretWord, foldedWord, maxErrors);
+        this.log = null;
+    }
+
+    /**
+     * Initializes an event-sourced game: every accepted guess is appended to
+     * the log. Guesses already in the log are replayed first, so a game can
+     * be resumed from its log. Letters that do not fold to A-Z are ignored
+     * in this mode, since the log cannot record them.
+     * <p>
+     * The secret word is resolved from the log's word id, the same way as
+     * {@link GameLog#replay(IntFunction)}, so the game always plays the word
+     * the log refers to.
+     * </p>
+     * 
+     * @param wordById aka the word id resolver (e.g. {@code dictionary::getWord}).
+     * @param log      aka the game log, using its word id and error limit.
+     * @throws IllegalArgumentException if the word id resolves to no word.
+     */
+    public HangmanGame(IntFunction<String> wordById, GameLog log) {
+        String secretWord = wordById.apply(log.getWordId());
+        if (secretWord == null) {
+            throw new IllegalArgumentException("Unknown word id: " + log.getWordId());
+        }
+        validate(secretWord, log.getMaxErrors());
+        this.state = new GameState(secretWord, log.getMaxErrors());
+        // replay before attaching the log so its entries are not appended
+        // again, and without calling the overridable guessLetter
+        for (int i = 0; i < log.size(); i++) {
+            play(log.letterAt(i), null);
+        }
+        this.log = log;
+    }
+
+    private static void validate(String secretWord, int maxErrors) {
         if (secretWord == null || secretWord.trim().isEmpty()) {
             throw new IllegalArgumentException("Secret word cannot be null or empty.");
         }
         if (maxErrors < 1) {
             throw new IllegalArgumentException("Max errors must be at least 1.");
         }
-        this.state = new GameState(secretWord, maxErrors);
     }
 
     /**
@@ -31,6 +88,13 @@ public class HangmanGame {
      * @param letter aka the letter proposed by the player.
      */
     public void guessLetter(char letter) {
+        play(letter, log);
+    }
+
+    /**
+     * Applies a guess, appending it to the given log if any.
+     */
+    private void play(char letter, GameLog log) {
         if (state.getCurrentStatus() != Status.PLAYING) {
             return;
         }
@@ -40,21 +104,33 @@ public class HangmanGame {
             return;
         }
 
-        char normalizedLetter = Character.toUpperCase(letter);
+        // accented letters count as their base letter (é --> E)
+        char normalizedLetter = LetterFolding.fold(letter);
+        if (log != null && !LetterFolding.isFoldable(letter)) {
+            return;
+        }
 
         // if already guessed --> do nothing
-        if (state.getGuessedLetters().contains(normalizedLetter)) {
+        if (state.isGuessed(normalizedLetter)) {
+            for (GameListener listener : listeners) {
+                listener.onDuplicate(letter);
+            }
             return;
         }
 
         state.addGuessedLetter(normalizedLetter);
+        if (log != null) {
+            log.append(normalizedLetter);
+        }
 
         // check if letter is correctt
-        if (state.getSecretWord().indexOf(normalizedLetter) < 0) {
+        boolean hit = state.containsLetter(normalizedLetter);
+        if (!hit) {
             state.incrementErrors();
         }
 
         updateGameStatus();
+        fireGuess(normalizedLetter, hit);
     }
 
     private void updateGameStatus() {
@@ -65,7 +141,65 @@ public class HangmanGame {
         }
     }
 
+    private void fireGuess(char letter, boolean hit) {
+        GameListener[] current = listeners;
+        for (GameListener listener : current) {
+            if (hit) {
+                listener.onHit(letter, state.positionMask(letter));
+            } else {
+                listener.onMiss(letter, state.getErrorsCount());
+            }
+        }
+        Status status = state.getCurrentStatus();
+        if (status == Status.PLAYING) {
+            return;
+        }
+        for (GameListener listener : current) {
+            if (status == Status.WON) {
+                listener.onWon();
+            } else {
+                listener.onLost();
+            }
+        }
+    }
+
+    /**
+     * Subscribes to the game events.
+     * 
+     * @param listener aka the subscriber.
+     */
+    public void addListener(GameListener listener) {
+        GameListener[] grown = Arrays.copyOf(listeners, listeners.length + 1);
+        grown[listeners.length] = listener;
+        listeners = grown;
+    }
+
+    /**
+     * Unsubscribes from the game events.
+     * 
+     * @param listener aka the subscriber to remove.
+     */
+    public void removeListener(GameListener listener) {
+        for (int i = 0; i < listeners.length; i++) {
+            if (listeners[i] == listener) {
+                GameListener[] shrunk = Arrays.copyOf(listeners, listeners.length - 1);
+                System.arraycopy(listeners, i + 1, shrunk, i, listeners.length - i - 1);
+                listeners = shrunk;
+                return;
+            }
+        }
+    }
+
     public GameState getState() {
         return state;
     }
+
+    /**
+     * Returns the event log of this game.
+     * 
+     * @return the log, or null if the game was not created event-sourced.
+     */
+    public GameLog getLog() {
+        return log;
+    }
 }
@@ -0,0 +1,87 @@
+package com.mycompany.tp_note.engine;
+
+import java.text.Normalizer;
+
+/**
+ * Maps accented Latin letters to their base letter (É→E, Ç→C, ...).
+ * <p>
+ * The table is built once with {@link Normalizer} when the class loads;
+ * afterwards folding a letter is a single array lookup. Letters without an
+ * {@code A-Z} base (ß, Œ, non-Latin scripts) are not foldable.
+ * </p>
+ */
+public final class LetterFolding {
+
+    /** Folded letter for each char below the limit, or 0 if not foldable. */
+    private static final char[] FOLD = new char[0x180];
+
+    static {
+        for (char c = 0; c < FOLD.length; c++) {
+            if (!Character.isLetter(c)) {
+                continue;
+            }
+            String decomposed = Normalizer.normalize(String.valueOf(Character.toUpperCase(c)), Normalizer.Form.NFD);
+            char base = decomposed.charAt(0);
+            if (base >= 'A' && base <= 'Z') {
+                FOLD[c] = base;
+            }
+        }
+    }
+
+    private LetterFolding() {
+    }
+
+    /**
+     * Whether the letter folds to {@code A-Z}.
+     *
+     * @param c the letter, any case
+     * @return true if foldable
+     */
+    public static boolean isFoldable(char c) {
+        return c < FOLD.length && FOLD[c] != 0;
+    }
+
+    /**
+     * Folds a letter to uppercase {@code A-Z}. Letters that are not foldable
+     * are only uppercased.
+     *
+     * @param c the letter, any case
+     * @return the folded letter
+     */
+    public static char fold(char c) {
+        return isFoldable(c) ? FOLD[c] : Character.toUpperCase(c);
+    }
+
+    /**
+     * Folds every letter of a word.
+     *
+     * @param word the word, any case
+     * @return the uppercase {@code A-Z} form when the word is valid
+     */
+    public static String fold(String word) {
+        char[] folded = new char[word.length()];
+        for (int i = 0; i < folded.length; i++) {
+            folded[i] = fold(word.charAt(i));
+        }
+        return new String(folded);
+    }
+
+    /**
+     * Whether the word is non-empty, no longer than
+     * {@link GameState#MAX_WORD_LENGTH} and made only of foldable letters.
+     *
+     * @param word the candidate word
+     * @return true if it can be played
+     */
+    public static boolean isValidWord(String word) {
+        if (word.isEmpty() || word.length() > GameState.MAX_WORD_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < word.length(); i++) {
+            if (!isFoldable(word.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
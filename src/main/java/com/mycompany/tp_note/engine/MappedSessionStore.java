@@ -0,0 +1,142 @@
+package com.mycompany.tp_note.engine;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * {@link PackedSessionStore} persisted in a memory-mapped file.
+ * <p>
+ * Records are the file itself: every guess is written in place, in a
+ * single store, so a killed process leaves each session either before or
+ * after its last guess. The operating system keeps the pages once written;
+ * {@link #sync()} forces them to the disk, and can be run periodically to
+ * survive a machine crash with at most one interval of lost guesses.
+ * </p>
+ * <p>
+ * Reopening the file resumes every session as it was, without parsing:
+ * only the in-use flags are scanned to rebuild the free list.
+ * </p>
+ * <p>
+ * File layout (big-endian): {@code MAGIC, VERSION, capacity, reserved},
+ * then {@code capacity} records. The header is one record wide, so the
+ * records keep the alignment of the page-aligned mapping.
+ * </p>
+ * <p>
+ * The JDK offers no explicit unmap: {@link #close()} syncs, then drops
+ * every reference to the mapping, which is unmapped once collected.
+ * </p>
+ */
+public class MappedSessionStore extends PackedSessionStore implements AutoCloseable {
+
+    /** File signature: "HSES". */
+    public static final int MAGIC = 0x48534553;
+    public static final int VERSION = 2;
+    /** Size in bytes of the fixed header preceding the records. */
+    public static final int HEADER_BYTES = 4 * Integer.BYTES;
+
+    /** Null once closed. */
+    private MappedByteBuffer file;
+    private ScheduledExecutorService syncer;
+
+    private MappedSessionStore(MappedByteBuffer file, IntUnaryOperator wordLetterMask) {
+        super(file.slice(HEADER_BYTES, file.capacity() - HEADER_BYTES), wordLetterMask);
+        this.file = file;
+    }
+
+    /**
+     * Opens a session file, creating it if needed.
+     *
+     * @param path           the session file
+     * @param capacity       the number of records of a new file; an existing
+     *                       file keeps its own capacity
+     * @param wordLetterMask maps a word id to its folded letters, bit 0 = 'A'
+     * @return the store, with every persisted session live
+     * @throws IOException if the file cannot be mapped or is not a session file
+     */
+    public static MappedSessionStore open(Path path, int capacity, IntUnaryOperator wordLetterMask)
+            throws IOException {
+        if (capacity < 1 || capacity > (Integer.MAX_VALUE - HEADER_BYTES) / RECORD_BYTES) {
+            throw new IllegalArgumentException("Capacity out of range: " + capacity);
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long size = channel.size();
+            MappedByteBuffer file;
+            if (size == 0) {
+                file = channel.map(FileChannel.MapMode.READ_WRITE, 0,
+                        HEADER_BYTES + (long) capacity * RECORD_BYTES);
+                file.putInt(0, MAGIC);
+                file.putInt(4, VERSION);
+                file.putInt(8, capacity);
+                file.force();
+            } else {
+                file = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+                checkHeader(file, size);
+            }
+            return new MappedSessionStore(file, wordLetterMask);
+        }
+    }
+
+    private static void checkHeader(MappedByteBuffer file, long size) throws IOException {
+        if (size < HEADER_BYTES || file.getInt(0) != MAGIC) {
+            throw new IOException("Not a session file.");
+        }
+        if (file.getInt(4) != VERSION) {
+            throw new IOException("Unsupported session file version: " + file.getInt(4));
+        }
+        if (HEADER_BYTES + (long) file.getInt(8) * RECORD_BYTES != size) {
+            throw new IOException("Session file is truncated.");
+        }
+    }
+
+    /**
+     * Forces every written guess to the disk. Does nothing once closed.
+     */
+    public synchronized void sync() {
+        if (file != null) {
+            file.force();
+        }
+    }
+
+    /**
+     * Starts a daemon thread calling {@link #sync()} at a fixed interval,
+     * so guesses are made durable in batches.
+     *
+     * @param interval the time between two syncs
+     */
+    public synchronized void syncEvery(Duration interval) {
+        if (syncer != null) {
+            throw new IllegalStateException("Periodic sync already started.");
+        }
+        syncer = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "session-sync");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long millis = Math.max(1, interval.toMillis());
+        syncer.scheduleWithFixedDelay(this::sync, millis, millis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops the periodic sync, if any, forces the records to the disk and
+     * releases the mapping. Sessions can no longer be used afterwards.
+     */
+    @Override
+    public synchronized void close() {
+        if (syncer != null) {
+            syncer.shutdown();
+            syncer = null;
+        }
+        sync();
+        release();
+        file = null;
+    }
+}
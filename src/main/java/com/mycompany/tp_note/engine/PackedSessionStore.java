@@ -0,0 +1,284 @@
+package com.mycompany.tp_note.engine;
+
+import com.mycompany.tp_note.engine.GameState.Status;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Off-heap store packing each game session into one fixed-width record.
+ * <p>
+ * A session only keeps what cannot be derived from the dictionary: the
+ * secret word's id, the guessed letters as a 26-bit mask, the error count,
+ * the error limit and the status. Guesses are resolved against the word's
+ * letter mask, supplied by the caller, so no per-session object is ever
+ * created: ten million sessions fit in {@value #RECORD_BYTES} x 10M bytes
+ * of direct memory, invisible to the garbage collector.
+ * </p>
+ * <p>
+ * Record layout ({@value #RECORD_BYTES} bytes): {@code int wordId,
+ * int reserved, int guessedMask, byte errors, byte maxErrors, byte status,
+ * byte inUse}. Everything a guess changes sits in the last, 8-byte aligned
+ * {@code long}, written with one {@code putLong}; since records divide a
+ * 4 KiB page evenly, that {@code long} never straddles two pages either.
+ * Session ids are record indexes; ids of removed sessions are reused.
+ * </p>
+ * <p>
+ * Only words whose letters fold to {@code A-Z} can be stored, and guesses
+ * outside {@code A-Z} after folding are ignored, as in an event-sourced
+ * {@link HangmanGame}. This class is not thread-safe.
+ * </p>
+ */
+public class PackedSessionStore {
+
+    /** Size in bytes of one session record. */
+    public static final int RECORD_BYTES = 16;
+
+    private static final int WORD_ID = 0;
+    private static final int GUESSED = 8;
+    private static final int ERRORS = 12;
+    private static final int MAX_ERRORS = 13;
+    private static final int STATUS = 14;
+    private static final int IN_USE = 15;
+
+    private static final Status[] STATUSES = Status.values();
+
+    /** Null once released. */
+    private ByteBuffer records;
+    private final int capacity;
+    private final IntUnaryOperator wordLetterMask;
+    /** Records below this index have been handed out at least once. */
+    private int highWater;
+    private int[] free = new int[16];
+    private int freeCount;
+    private int size;
+
+    /**
+     * Allocates a store in direct memory.
+     *
+     * @param capacity       the maximum number of live sessions
+     * @param wordLetterMask maps a word id to its folded letters, bit 0 = 'A'
+     */
+    public PackedSessionStore(int capacity, IntUnaryOperator wordLetterMask) {
+        this(allocate(capacity), wordLetterMask);
+    }
+
+    /**
+     * Wraps existing records, e.g. a mapped file. Records flagged in use
+     * are live sessions; the others are free.
+     *
+     * @param records        the record area, {@code RECORD_BYTES} per session
+     * @param wordLetterMask maps a word id to its folded letters, bit 0 = 'A'
+     */
+    protected PackedSessionStore(ByteBuffer records, IntUnaryOperator wordLetterMask) {
+        this.records = records;
+        this.capacity = records.capacity() / RECORD_BYTES;
+        this.wordLetterMask = wordLetterMask;
+        for (int i = 0; i < capacity; i++) {
+            if (records.get(i * RECORD_BYTES + IN_USE) != 0) {
+                highWater = i + 1;
+                size++;
+            }
+        }
+        for (int i = highWater - 1; i >= 0; i--) {
+            if (records.get(i * RECORD_BYTES + IN_USE) == 0) {
+                pushFree(i);
+            }
+        }
+    }
+
+    private static ByteBuffer allocate(int capacity) {
+        if (capacity < 1 || capacity > Integer.MAX_VALUE / RECORD_BYTES) {
+            throw new IllegalArgumentException("Capacity out of range: " + capacity);
+        }
+        return ByteBuffer.allocateDirect(capacity * RECORD_BYTES);
+    }
+
+    /**
+     * Starts a session.
+     *
+     * @param wordId    the secret word's dictionary id
+     * @param maxErrors the error limit, 1 to 127
+     * @return the session id
+     * @throws IllegalStateException if the store is full
+     */
+    public int create(int wordId, int maxErrors) {
+        if (maxErrors < 1 || maxErrors > Byte.MAX_VALUE) {
+            throw new IllegalArgumentException("Max errors must be between 1 and 127.");
+        }
+        checkOpen();
+        int session;
+        if (freeCount > 0) {
+            session = free[--freeCount];
+        } else if (highWater < capacity) {
+            session = highWater++;
+        } else {
+            throw new IllegalStateException("Session store is full: " + capacity + " sessions.");
+        }
+        int base = session * RECORD_BYTES;
+        records.putInt(base + WORD_ID, wordId);
+        // the in-use flag is written last, with the rest of the record
+        records.putLong(base + GUESSED, pack(0, 0, maxErrors, Status.PLAYING));
+        size++;
+        return session;
+    }
+
+    /**
+     * Applies a guess to a session, with the rules of
+     * {@link HangmanGame#guessLetter(char)}.
+     *
+     * @param session the session id
+     * @param letter  the guessed letter
+     * @return the session status after the guess
+     */
+    public Status guess(int session, char letter) {
+        int base = base(session);
+        Status status = STATUSES[records.get(base + STATUS)];
+        if (status != Status.PLAYING || !Character.isLetter(letter)) {
+            return status;
+        }
+        char folded = LetterFolding.fold(letter);
+        if (folded < 'A' || folded > 'Z') {
+            return status;
+        }
+        int bit = 1 << (folded - 'A');
+        int guessed = records.getInt(base + GUESSED);
+        if ((guessed & bit) != 0) {
+            return status;
+        }
+        guessed |= bit;
+
+        int letters = wordLetterMask.applyAsInt(records.getInt(base + WORD_ID));
+        int errors = records.get(base + ERRORS);
+        int maxErrors = records.get(base + MAX_ERRORS);
+        if ((letters & bit) == 0) {
+            errors++;
+        }
+        if ((letters & ~guessed) == 0) {
+            status = Status.WON;
+        } else if (errors >= maxErrors) {
+            status = Status.LOST;
+        }
+        // a single store: a process killed mid-guess leaves the old record or the new one
+        records.putLong(base + GUESSED, pack(guessed, errors, maxErrors, status));
+        return status;
+    }
+
+    /**
+     * Ends a session, freeing its record.
+     *
+     * @param session the session id
+     */
+    public void remove(int session) {
+        records.put(base(session) + IN_USE, (byte) 0);
+        pushFree(session);
+        size--;
+    }
+
+    public int getWordId(int session) {
+        return records.getInt(base(session) + WORD_ID);
+    }
+
+    public int getGuessedMask(int session) {
+        return records.getInt(base(session) + GUESSED);
+    }
+
+    public int getErrorsCount(int session) {
+        return records.get(base(session) + ERRORS);
+    }
+
+    public int getMaxErrors(int session) {
+        return records.get(base(session) + MAX_ERRORS);
+    }
+
+    public Status getStatus(int session) {
+        return STATUSES[records.get(base(session) + STATUS)];
+    }
+
+    /**
+     * Whether a session id refers to a live session.
+     *
+     * @param session the session id
+     * @return true if the session exists
+     */
+    public boolean contains(int session) {
+        return records != null && session >= 0 && session < highWater
+                && records.get(session * RECORD_BYTES + IN_USE) != 0;
+    }
+
+    /**
+     * Rebuilds a full game state, e.g. to display a session.
+     *
+     * @param session    the session id
+     * @param secretWord the word with the session's word id
+     * @return a state equal to the one the guesses would have produced
+     */
+    public GameState toGameState(int session, String secretWord) {
+        int base = base(session);
+        GameState state = new GameState(secretWord, records.get(base + MAX_ERRORS));
+        int guessed = records.getInt(base + GUESSED);
+        for (int i = 0; i < 26; i++) {
+            if ((guessed & (1 << i)) != 0) {
+                state.addGuessedLetter((char) ('A' + i));
+            }
+        }
+        for (int i = records.get(base + ERRORS); i > 0; i--) {
+            state.incrementErrors();
+        }
+        state.setStatus(STATUSES[records.get(base + STATUS)]);
+        return state;
+    }
+
+    /**
+     * Returns the number of live sessions.
+     *
+     * @return the session count
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the maximum number of live sessions.
+     *
+     * @return the store capacity
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    /** Bytes {@code GUESSED} to {@code IN_USE} of a live record, as one big-endian long. */
+    private static long pack(int guessed, int errors, int maxErrors, Status status) {
+        return (long) guessed << 32 | errors << 24 | maxErrors << 16 | status.ordinal() << 8 | 1;
+    }
+
+    /**
+     * Drops the records, e.g. so that a closed file mapping can be
+     * reclaimed. Every later operation on a session fails.
+     */
+    protected void release() {
+        records = null;
+    }
+
+    private void checkOpen() {
+        if (records == null) {
+            throw new IllegalStateException("Session store closed.");
+        }
+    }
+
+    private int base(int session) {
+        checkOpen();
+        if (!contains(session)) {
+            throw new IllegalArgumentException("Unknown session: " + session);
+        }
+        return session * RECORD_BYTES;
+    }
+
+    private void pushFree(int session) {
+        if (freeCount == free.length) {
+            free = Arrays.copyOf(free, freeCount * 2);
+        }
+        free[freeCount++] = session;
+    }
+}
@@ -0,0 +1,215 @@
+package com.mycompany.tp_note.server;
+
+import com.mycompany.tp_note.UI.SocketUI;
+import com.mycompany.tp_note.data.SharedDictionary;
+import com.mycompany.tp_note.data.WordProvider;
+import com.mycompany.tp_note.engine.GameController;
+import com.mycompany.tp_note.engine.HangmanGame;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Thread-per-session TCP game server: each connection runs the plain
+ * blocking {@link GameController#startGame()} loop over a {@link SocketUI}.
+ * <p>
+ * Sessions run on the given executor. With
+ * {@link #withVirtualThreads(WordProvider, int)} every connection gets its
+ * own virtual thread, parked by the JDK while it waits for the client, so
+ * hundreds of thousands of players cost a few kilobytes of stack each and
+ * a handful of carrier threads. With
+ * {@link #withPlatformThreads(WordProvider, int, int)} at most that many
+ * sessions are served at once and the other connections wait in the pool's
+ * queue.
+ * </p>
+ * <p>
+ * The line protocol is the one of {@link NioGameServer}. The word provider
+ * is shared by all sessions and must be thread-safe.
+ * </p>
+ */
+public class BlockingGameServer implements AutoCloseable {
+
+    private static final int DEFAULT_MAX_ERRORS = 7;
+
+    private final WordProvider words;
+    private final int defaultMaxErrors;
+    private final ExecutorService sessions;
+    private final Set<Socket> connections = ConcurrentHashMap.newKeySet();
+    private ServerSocket server;
+    private volatile boolean running;
+
+    /**
+     * Creates a server running its sessions on the given executor, which it
+     * shuts down when closed.
+     *
+     * @param words            the secret word source
+     * @param defaultMaxErrors the error limit of {@code NEW} without argument
+     * @param sessions         runs one task per connection
+     */
+    public BlockingGameServer(WordProvider words, int defaultMaxErrors, ExecutorService sessions) {
+        if (defaultMaxErrors < 1) {
+            throw new IllegalArgumentException("Max errors must be at least 1.");
+        }
+        this.words = words;
+        this.defaultMaxErrors = defaultMaxErrors;
+        this.sessions = sessions;
+    }
+
+    /**
+     * Creates a server running each session on its own virtual thread.
+     *
+     * @param words            the secret word source
+     * @param defaultMaxErrors the error limit of {@code NEW} without argument
+     * @return the server
+     */
+    public static BlockingGameServer withVirtualThreads(WordProvider words, int defaultMaxErrors) {
+        return new BlockingGameServer(words, defaultMaxErrors, Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    /**
+     * Creates a server running its sessions on a fixed pool of platform
+     * threads.
+     *
+     * @param words            the secret word source
+     * @param defaultMaxErrors the error limit of {@code NEW} without argument
+     * @param threads          the maximum number of sessions served at once
+     * @return the server
+     */
+    public static BlockingGameServer withPlatformThreads(WordProvider words, int defaultMaxErrors, int threads) {
+        AtomicInteger count = new AtomicInteger();
+        return new BlockingGameServer(words, defaultMaxErrors, Executors.newFixedThreadPool(threads, r -> {
+            Thread thread = new Thread(r, "game-session-" + count.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    /**
+     * Binds the server and starts accepting connections.
+     *
+     * @param address the address to listen on (port 0 picks a free port)
+     * @return the bound port
+     * @throws IOException if the address cannot be bound
+     */
+    public synchronized int start(InetSocketAddress address) throws IOException {
+        if (server != null) {
+            throw new IllegalStateException("Server already started.");
+        }
+        server = new ServerSocket();
+        server.bind(address, 1024);
+        running = true;
+        Thread acceptor = new Thread(this::acceptLoop, "game-server-acceptor");
+        acceptor.setDaemon(true);
+        acceptor.start();
+        return server.getLocalPort();
+    }
+
+    /**
+     * Returns the number of open connections, served or waiting for a thread.
+     *
+     * @return the connection count
+     */
+    public int getConnectionCount() {
+        return connections.size();
+    }
+
+    private void acceptLoop() {
+        try {
+            while (running) {
+                Socket socket = server.accept();
+                connections.add(socket);
+                try {
+                    sessions.execute(() -> serve(socket));
+                } catch (RejectedExecutionException e) {
+                    // closing
+                    disconnect(socket);
+                }
+            }
+        } catch (IOException e) {
+            // server socket closed
+        }
+    }
+
+    /** Plays games with one client until it quits or disconnects. */
+    private void serve(Socket socket) {
+        try {
+            socket.setTcpNoDelay(true);
+            SocketUI ui = new SocketUI(socket.getInputStream(), socket.getOutputStream());
+            while (running) {
+                int maxErrors = ui.awaitNewGame(defaultMaxErrors);
+                HangmanGame game;
+                try {
+                    game = new HangmanGame(words.getWord(), maxErrors);
+                } catch (IllegalArgumentException | IOException e) {
+                    ui.sendError(e.getMessage());
+                    continue;
+                }
+                try {
+                    new GameController(game, ui).startGame();
+                } catch (CancellationException e) {
+                    // the client asked for a new game mid-game
+                }
+            }
+        } catch (IOException | UncheckedIOException e) {
+            // the client quit or the connection failed
+        } finally {
+            disconnect(socket);
+        }
+    }
+
+    private void disconnect(Socket socket) {
+        connections.remove(socket);
+        try {
+            socket.close();
+        } catch (IOException e) {
+            // already gone
+        }
+    }
+
+    /**
+     * Stops accepting connections, closes every open one and shuts the
+     * session executor down.
+     *
+     * @throws IOException if the server socket cannot be closed
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        running = false;
+        if (server != null) {
+            server.close();
+        }
+        for (Socket socket : connections) {
+            disconnect(socket);
+        }
+        sessions.shutdownNow();
+    }
+
+    /**
+     * Command-line entry point: {@code BlockingGameServer [port] [threads]},
+     * serving the shared dictionary on port 4444 by default, with one
+     * virtual thread per session, or a pool of {@code threads} platform
+     * threads when given.
+     *
+     * @param args the port and pool size
+     * @throws IOException if the dictionary cannot be loaded or the port bound
+     * @throws InterruptedException if interrupted while serving
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : 4444;
+        BlockingGameServer server = args.length > 1
+                ? withPlatformThreads(SharedDictionary.getInstance(), DEFAULT_MAX_ERRORS, Integer.parseInt(args[1]))
+                : withVirtualThreads(SharedDictionary.getInstance(), DEFAULT_MAX_ERRORS);
+        System.out.println("Serveur du pendu sur le port " + server.start(new InetSocketAddress(port)));
+        Thread.currentThread().join();
+    }
+}
@@ -0,0 +1,285 @@
+package com.mycompany.tp_note.server;
+
+import com.mycompany.tp_note.data.SharedDictionary;
+import com.mycompany.tp_note.data.WordProvider;
+import com.mycompany.tp_note.engine.GameSessionManager;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * HTTP/JSON game API on the JDK's built-in {@link HttpServer}.
+ * <p>
+ * Routes:
+ * </p>
+ * <ul>
+ * <li>{@code POST /games[?maxErrors=n]} creates a game, {@code 201};</li>
+ * <li>{@code GET /games/{id}} returns its state;</li>
+ * <li>{@code POST /games/{id}/guess?letter=x} plays a letter and returns
+ * the resulting state;</li>
+ * <li>{@code DELETE /games/{id}} ends a game, {@code 204};</li>
+ * <li>{@code GET /health} reports the server up, for load balancer probes.</li>
+ * </ul>
+ * <p>
+ * A state is
+ * {@code {"id":1,"maskedWord":"_A_A","errorsCount":0,"maxErrors":7,"status":"PLAYING","guessedLetters":"A"}},
+ * plus {@code "secretWord"} once the game is over; errors are
+ * {@code {"error":"..."}} with status 400, 404, 405 or 503. Bodies are written
+ * by a {@link JsonWriter} and sent with a fixed length, so connections are
+ * kept alive. Headers and body leave in two writes, so Nagle's algorithm
+ * would delay each keep-alive request by the client's delayed ACK: the JVM
+ * should be launched with {@code -Dsun.net.httpserver.nodelay=true}, which
+ * {@link #main(String[])} sets when absent.
+ * </p>
+ * <p>
+ * Sessions are held by a bounded {@link GameSessionManager}: requests on
+ * different games never contend. Games are evicted after 30 minutes without
+ * requests, or 5 minutes after they end, and creating a game beyond the
+ * limit answers {@code 503}. Handlers run on one virtual thread per request
+ * by default. Games live in this process only, so a load balancer in front
+ * of several instances must route each game id to the instance that created
+ * it.
+ * </p>
+ */
+public class HttpGameServer implements AutoCloseable {
+
+    private static final int DEFAULT_MAX_ERRORS = 7;
+    private static final int DEFAULT_MAX_GAMES = 100_000;
+    private static final Duration IDLE_TIMEOUT = Duration.ofMinutes(30);
+    private static final Duration ENDED_TIMEOUT = Duration.ofMinutes(5);
+    private static final Duration EVICTION_INTERVAL = Duration.ofSeconds(30);
+    private static final String GAMES = "/games";
+    /** JDK server property disabling Nagle's algorithm on accepted connections. */
+    private static final String NO_DELAY_PROPERTY = "sun.net.httpserver.nodelay";
+
+    private final GameSessionManager sessions;
+    private final int defaultMaxErrors;
+    private final ExecutorService executor;
+    private HttpServer server;
+
+    /**
+     * Creates a server handling each request on its own virtual thread.
+     *
+     * @param words            the secret word source (must be thread-safe)
+     * @param defaultMaxErrors the error limit of games created without one
+     */
+    public HttpGameServer(WordProvider words, int defaultMaxErrors) {
+        this(words, defaultMaxErrors, Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    /**
+     * Creates a server handling requests on the given executor, which it
+     * shuts down when closed.
+     *
+     * @param words            the secret word source (must be thread-safe)
+     * @param defaultMaxErrors the error limit of games created without one
+     * @param executor         runs the request handlers
+     */
+    public HttpGameServer(WordProvider words, int defaultMaxErrors, ExecutorService executor) {
+        this(words, defaultMaxErrors, DEFAULT_MAX_GAMES, executor);
+    }
+
+    /**
+     * Creates a server hosting at most the given number of games, handling
+     * requests on the given executor, which it shuts down when closed.
+     *
+     * @param words            the secret word source (must be thread-safe)
+     * @param defaultMaxErrors the error limit of games created without one
+     * @param maxGames         the maximum number of hosted games
+     * @param executor         runs the request handlers
+     */
+    public HttpGameServer(WordProvider words, int defaultMaxErrors, int maxGames, ExecutorService executor) {
+        if (defaultMaxErrors < 1) {
+            throw new IllegalArgumentException("Max errors must be at least 1.");
+        }
+        this.sessions = new GameSessionManager(words, maxGames, IDLE_TIMEOUT, ENDED_TIMEOUT);
+        this.defaultMaxErrors = defaultMaxErrors;
+        this.executor = executor;
+    }
+
+    /**
+     * Binds the server and starts serving.
+     *
+     * @param address the address to listen on (port 0 picks a free port)
+     * @return the bound port
+     * @throws IOException if the address cannot be bound
+     */
+    public synchronized int start(InetSocketAddress address) throws IOException {
+        if (server != null) {
+            throw new IllegalStateException("Server already started.");
+        }
+        server = HttpServer.create(address, 1024);
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+        server.start();
+        sessions.evictEvery(EVICTION_INTERVAL);
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Returns the number of hosted games.
+     *
+     * @return the game count
+     */
+    public int getGameCount() {
+        return sessions.size();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String path = exchange.getRequestURI().getRawPath();
+            String method = exchange.getRequestMethod();
+            if (path.equals("/health")) {
+                if (method.equals("GET")) {
+                    send(exchange, 200, new JsonWriter(48).field("status", "UP")
+                            .field("games", sessions.size()).end());
+                } else {
+                    send(exchange, 405, JsonWriter.error("method not allowed"));
+                }
+            } else if (path.equals(GAMES) || path.equals(GAMES + "/")) {
+                if (method.equals("POST")) {
+                    create(exchange);
+                } else {
+                    send(exchange, 405, JsonWriter.error("method not allowed"));
+                }
+            } else if (path.startsWith(GAMES + "/")) {
+                handleGame(exchange, method, path.substring(GAMES.length() + 1));
+            } else {
+                send(exchange, 404, JsonWriter.error("not found"));
+            }
+        }
+    }
+
+    private void create(HttpExchange exchange) throws IOException {
+        String maxErrors = queryParameter(exchange, "maxErrors");
+        long id;
+        try {
+            id = sessions.createSession(maxErrors == null ? defaultMaxErrors : Integer.parseInt(maxErrors));
+        } catch (NumberFormatException e) {
+            send(exchange, 400, JsonWriter.error("invalid max errors"));
+            return;
+        } catch (IllegalArgumentException e) {
+            send(exchange, 400, JsonWriter.error(e.getMessage()));
+            return;
+        } catch (IllegalStateException e) {
+            send(exchange, 503, JsonWriter.error("too many games"));
+            return;
+        } catch (IOException e) {
+            send(exchange, 503, JsonWriter.error("no word available"));
+            return;
+        }
+        exchange.getResponseHeaders().set("Location", GAMES + "/" + id);
+        send(exchange, 201, sessions.read(id, state -> JsonWriter.gameState(id, state)));
+    }
+
+    /** Handles {@code /games/{id}} and {@code /games/{id}/guess}, given {@code {id}...}. */
+    private void handleGame(HttpExchange exchange, String method, String rest) throws IOException {
+        int slash = rest.indexOf('/');
+        String action = slash < 0 ? "" : rest.substring(slash + 1);
+        long id;
+        try {
+            id = Long.parseLong(slash < 0 ? rest : rest.substring(0, slash));
+        } catch (NumberFormatException e) {
+            send(exchange, 404, JsonWriter.error("not found"));
+            return;
+        }
+        if (!action.isEmpty() && !action.equals("guess")) {
+            send(exchange, 404, JsonWriter.error("not found"));
+            return;
+        }
+        String allowed = action.isEmpty() ? "GET" : "POST";
+        if (!method.equals(allowed) && !(action.isEmpty() && method.equals("DELETE"))) {
+            send(exchange, 405, JsonWriter.error("method not allowed"));
+            return;
+        }
+        try {
+            if (method.equals("DELETE")) {
+                if (sessions.remove(id)) {
+                    exchange.sendResponseHeaders(204, -1);
+                } else {
+                    send(exchange, 404, JsonWriter.error("Unknown session: " + id));
+                }
+            } else if (method.equals("GET")) {
+                send(exchange, 200, sessions.read(id, state -> JsonWriter.gameState(id, state)));
+            } else {
+                String letter = queryParameter(exchange, "letter");
+                if (letter == null || letter.codePointCount(0, letter.length()) != 1
+                        || !Character.isLetter(letter.charAt(0))) {
+                    send(exchange, 400, JsonWriter.error("expected one letter"));
+                } else {
+                    send(exchange, 200, sessions.guess(id, letter.charAt(0), state -> JsonWriter.gameState(id, state)));
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            // unknown or concurrently deleted session
+            send(exchange, 404, JsonWriter.error(e.getMessage()));
+        }
+    }
+
+    /** Returns a decoded query parameter, or null if absent. */
+    private static String queryParameter(HttpExchange exchange, String name) {
+        String query = exchange.getRequestURI().getRawQuery();
+        if (query == null) {
+            return null;
+        }
+        for (int start = 0; start <= query.length();) {
+            int end = query.indexOf('&', start);
+            if (end < 0) {
+                end = query.length();
+            }
+            if (query.startsWith(name, start) && start + name.length() < end
+                    && query.charAt(start + name.length()) == '=') {
+                return URLDecoder.decode(query.substring(start + name.length() + 1, end), StandardCharsets.UTF_8);
+            }
+            start = end + 1;
+        }
+        return null;
+    }
+
+    private static void send(HttpExchange exchange, int status, JsonWriter json) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, json.length());
+        try (OutputStream body = exchange.getResponseBody()) {
+            body.write(json.array(), 0, json.length());
+        }
+    }
+
+    /**
+     * Stops the server, closing every connection, and shuts the executor
+     * and the game eviction down.
+     */
+    @Override
+    public synchronized void close() {
+        if (server != null) {
+            server.stop(0);
+        }
+        sessions.close();
+        executor.shutdownNow();
+    }
+
+    /**
+     * Command-line entry point: {@code HttpGameServer [port]}, serving the
+     * shared dictionary on port 8080 by default, with Nagle's algorithm
+     * disabled unless the {@value #NO_DELAY_PROPERTY} property says otherwise.
+     *
+     * @param args the port
+     * @throws IOException if the dictionary cannot be loaded or the port bound
+     */
+    public static void main(String[] args) throws IOException {
+        if (System.getProperty(NO_DELAY_PROPERTY) == null) {
+            // read once, when the first HttpServer of the JVM is created
+            System.setProperty(NO_DELAY_PROPERTY, "true");
+        }
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : 8080;
+        HttpGameServer server = new HttpGameServer(SharedDictionary.getInstance(), DEFAULT_MAX_ERRORS);
+        System.out.println("API du pendu sur le port " + server.start(new InetSocketAddress(port)));
+    }
+}
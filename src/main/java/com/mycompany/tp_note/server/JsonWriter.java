@@ -0,0 +1,176 @@
+package com.mycompany.tp_note.server;
+
+import com.mycompany.tp_note.engine.GameState;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Writes one flat JSON object as UTF-8 directly into a byte array, ready
+ * to be sent with a known {@code Content-Length}.
+ * <p>
+ * Values are encoded as they are appended: no intermediate {@code String}
+ * or {@code StringBuilder} is built, and a game state costs a single array,
+ * sized from the word length so that it never grows in practice. Quotes,
+ * backslashes, control characters and surrogates are escaped (the latter
+ * two as JSON unicode escapes), so any word yields valid JSON.
+ * </p>
+ */
+final class JsonWriter {
+
+    private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+    private byte[] buf;
+    private int pos;
+
+    JsonWriter(int capacity) {
+        buf = new byte[capacity];
+        buf[pos++] = '{';
+    }
+
+    /**
+     * Writes a game's visible state; the secret word is included only once
+     * the game is over.
+     *
+     * @param id    the session id
+     * @param state the game state, owned by the caller while writing
+     * @return the finished object
+     */
+    static JsonWriter gameState(long id, GameState state) {
+        CharSequence masked = state.maskedView();
+        // ASCII words fit exactly; folded accents need a few extra bytes
+        JsonWriter json = new JsonWriter(160 + 2 * masked.length());
+        json.field("id", id);
+        json.name("maskedWord");
+        json.openString();
+        for (int i = 0; i < masked.length(); i += 2) {
+            json.stringChar(masked.charAt(i));
+        }
+        json.closeString();
+        json.field("errorsCount", state.getErrorsCount());
+        json.field("maxErrors", state.getMaxErrors());
+        json.field("status", state.getCurrentStatus().name());
+        json.name("guessedLetters");
+        json.openString();
+        for (int guessed = state.guessedMask(); guessed != 0; guessed &= guessed - 1) {
+            json.stringChar((char) ('A' + Integer.numberOfTrailingZeros(guessed)));
+        }
+        if (state.hasOtherGuessedLetters()) {
+            for (char c : state.getGuessedLetters()) {
+                if (c < 'A' || c > 'Z') {
+                    json.stringChar(c);
+                }
+            }
+        }
+        json.closeString();
+        if (state.getCurrentStatus() != GameState.Status.PLAYING) {
+            json.field("secretWord", state.getSecretWord());
+        }
+        return json.end();
+    }
+
+    /**
+     * Writes an error object.
+     *
+     * @param message the error message
+     * @return the finished object
+     */
+    static JsonWriter error(String message) {
+        return new JsonWriter(16 + message.length()).field("error", message).end();
+    }
+
+    JsonWriter field(String name, long value) {
+        name(name);
+        if (value < 0) {
+            put('-');
+        } else {
+            value = -value;
+        }
+        // digits of a non-positive value, so that Long.MIN_VALUE works too
+        int start = pos;
+        do {
+            put((char) ('0' - value % 10));
+            value /= 10;
+        } while (value != 0);
+        for (int i = start, j = pos - 1; i < j; i++, j--) {
+            byte b = buf[i];
+            buf[i] = buf[j];
+            buf[j] = b;
+        }
+        return this;
+    }
+
+    JsonWriter field(String name, CharSequence value) {
+        name(name);
+        openString();
+        for (int i = 0; i < value.length(); i++) {
+            stringChar(value.charAt(i));
+        }
+        closeString();
+        return this;
+    }
+
+    JsonWriter end() {
+        put('}');
+        return this;
+    }
+
+    private void name(String name) {
+        if (pos > 1) {
+            put(',');
+        }
+        put('"');
+        for (int i = 0; i < name.length(); i++) {
+            put(name.charAt(i));
+        }
+        put('"');
+        put(':');
+    }
+
+    private void openString() {
+        put('"');
+    }
+
+    private void closeString() {
+        put('"');
+    }
+
+    /** Appends one character of a string value, escaped and UTF-8 encoded. */
+    private void stringChar(char c) {
+        if (c == '"' || c == '\\') {
+            put('\\');
+            put(c);
+        } else if (c < 0x20 || Character.isSurrogate(c)) {
+            put('\\');
+            put('u');
+            for (int shift = 12; shift >= 0; shift -= 4) {
+                put((char) HEX[c >> shift & 0xF]);
+            }
+        } else if (c < 0x80) {
+            put(c);
+        } else if (c < 0x800) {
+            put((char) (0xC0 | c >> 6));
+            put((char) (0x80 | c & 0x3F));
+        } else {
+            put((char) (0xE0 | c >> 12));
+            put((char) (0x80 | c >> 6 & 0x3F));
+            put((char) (0x80 | c & 0x3F));
+        }
+    }
+
+    /** Appends one byte, given as the low bits of a char. */
+    private void put(char b) {
+        if (pos == buf.length) {
+            buf = Arrays.copyOf(buf, buf.length * 2);
+        }
+        buf[pos++] = (byte) b;
+    }
+
+    byte[] array() {
+        return buf;
+    }
+
+    int length() {
+        return pos;
+    }
+}
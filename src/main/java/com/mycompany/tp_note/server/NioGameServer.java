@@ -0,0 +1,398 @@
+package com.mycompany.tp_note.server;
+
+import com.mycompany.tp_note.UI.ProtocolUI;
+import com.mycompany.tp_note.data.SharedDictionary;
+import com.mycompany.tp_note.data.WordProvider;
+import com.mycompany.tp_note.engine.GameController;
+import com.mycompany.tp_note.engine.HangmanGame;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Non-blocking TCP game server: thousands of games on a few threads.
+ * <p>
+ * One thread accepts connections and hands them round-robin to worker
+ * threads, each multiplexing its connections on a {@link Selector}. A
+ * connection hosts one game at a time, driven by a {@link GameController}
+ * in push mode and rendered by a {@link ProtocolUI}.
+ * </p>
+ * <p>
+ * Line protocol (UTF-8, one command per line):
+ * </p>
+ * <ul>
+ * <li>{@code NEW [maxErrors]} starts a game and answers its {@code STATE};</li>
+ * <li>{@code GUESS <letter>} answers {@code STATE}, {@code ALREADY} or
+ * {@code END};</li>
+ * <li>{@code STATE} answers the current {@code STATE};</li>
+ * <li>{@code QUIT} answers {@code BYE} and closes the connection.</li>
+ * </ul>
+ * <p>
+ * Errors are answered with {@code ERR <message>}. The word provider is
+ * shared by all workers and must be thread-safe.
+ * </p>
+ * <p>
+ * A connection whose answers are not all sent stops being read until they
+ * are: a client pipelining commands without reading the answers is slowed
+ * down by TCP flow control instead of growing the server's buffers.
+ * </p>
+ */
+public class NioGameServer implements AutoCloseable {
+
+    /** Longest accepted command line, in bytes. */
+    static final int MAX_LINE_BYTES = 256;
+
+    private static final int DEFAULT_MAX_ERRORS = 7;
+    /** Pause after a failed accept, so that e.g. a full file table does not spin the acceptor. */
+    private static final long ACCEPT_RETRY_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private final WordProvider words;
+    private final int defaultMaxErrors;
+    private final Worker[] workers;
+    private final AtomicInteger connections = new AtomicInteger();
+    private ServerSocketChannel server;
+    private volatile boolean running;
+
+    /**
+     * Creates a server.
+     *
+     * @param words            the secret word source
+     * @param defaultMaxErrors the error limit of {@code NEW} without argument
+     * @param workerThreads    the number of selector threads
+     * @throws IOException if a selector cannot be opened
+     */
+    public NioGameServer(WordProvider words, int defaultMaxErrors, int workerThreads) throws IOException {
+        if (defaultMaxErrors < 1 || workerThreads < 1) {
+            throw new IllegalArgumentException("Max errors and worker threads must be at least 1.");
+        }
+        this.words = words;
+        this.defaultMaxErrors = defaultMaxErrors;
+        this.workers = new Worker[workerThreads];
+        for (int i = 0; i < workers.length; i++) {
+            workers[i] = new Worker(Selector.open());
+        }
+    }
+
+    /**
+     * Binds the server and starts its threads.
+     *
+     * @param address the address to listen on (port 0 picks a free port)
+     * @return the bound port
+     * @throws IOException if the address cannot be bound
+     */
+    public synchronized int start(InetSocketAddress address) throws IOException {
+        if (server != null) {
+            throw new IllegalStateException("Server already started.");
+        }
+        server = ServerSocketChannel.open();
+        server.bind(address, 1024);
+        running = true;
+        for (int i = 0; i < workers.length; i++) {
+            Thread thread = new Thread(workers[i]::run, "game-server-worker-" + i);
+            thread.setDaemon(true);
+            thread.start();
+        }
+        Thread acceptor = new Thread(this::acceptLoop, "game-server-acceptor");
+        acceptor.setDaemon(true);
+        acceptor.start();
+        return ((InetSocketAddress) server.getLocalAddress()).getPort();
+    }
+
+    /**
+     * Returns the number of open connections.
+     *
+     * @return the connection count
+     */
+    public int getConnectionCount() {
+        return connections.get();
+    }
+
+    private void acceptLoop() {
+        int next = 0;
+        while (running) {
+            SocketChannel channel = null;
+            try {
+                channel = server.accept();
+                channel.configureBlocking(false);
+            } catch (IOException e) {
+                // the server channel was closed, or this one connection failed
+                discard(channel);
+                if (running) {
+                    LockSupport.parkNanos(ACCEPT_RETRY_NANOS);
+                }
+                continue;
+            }
+            connections.incrementAndGet();
+            workers[next].hand(channel);
+            next = (next + 1) % workers.length;
+        }
+    }
+
+    private static void discard(SocketChannel channel) {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            // already gone
+        }
+    }
+
+    /**
+     * Stops accepting connections and closes every open one.
+     *
+     * @throws IOException if the server channel cannot be closed
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        running = false;
+        if (server != null) {
+            server.close();
+        }
+        for (Worker worker : workers) {
+            worker.close();
+        }
+    }
+
+    /**
+     * Command-line entry point: {@code NioGameServer [port] [workers]},
+     * serving the shared dictionary (port 4444 and 2 workers by default).
+     *
+     * @param args the port and worker count
+     * @throws IOException if the dictionary cannot be loaded or the port bound
+     * @throws InterruptedException if interrupted while serving
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : 4444;
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : 2;
+        NioGameServer server = new NioGameServer(SharedDictionary.getInstance(), DEFAULT_MAX_ERRORS, threads);
+        System.out.println("Serveur du pendu sur le port " + server.start(new InetSocketAddress(port)));
+        Thread.currentThread().join();
+    }
+
+    /** Selector thread owning a subset of the connections. */
+    private final class Worker {
+
+        private final Selector selector;
+        private final Queue<SocketChannel> pending = new ConcurrentLinkedQueue<>();
+
+        Worker(Selector selector) {
+            this.selector = selector;
+        }
+
+        void hand(SocketChannel channel) {
+            pending.add(channel);
+            selector.wakeup();
+        }
+
+        void run() {
+            try {
+                while (running) {
+                    selector.select();
+                    registerPending();
+                    Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                    while (keys.hasNext()) {
+                        SelectionKey key = keys.next();
+                        keys.remove();
+                        Connection connection = (Connection) key.attachment();
+                        try {
+                            if (key.isValid() && key.isReadable()) {
+                                connection.read();
+                            }
+                            if (key.isValid() && key.isWritable()) {
+                                connection.flush();
+                            }
+                        } catch (IOException e) {
+                            connection.close();
+                        }
+                    }
+                }
+            } catch (IOException e) {
+                // selector failure, drop this worker's connections
+            } finally {
+                for (SelectionKey key : selector.keys()) {
+                    ((Connection) key.attachment()).close();
+                }
+                try {
+                    selector.close();
+                } catch (IOException e) {
+                    // nothing left to release
+                }
+            }
+        }
+
+        private void registerPending() {
+            SocketChannel channel;
+            while ((channel = pending.poll()) != null) {
+                Connection connection = new Connection(channel);
+                try {
+                    connection.key = channel.register(selector, SelectionKey.OP_READ, connection);
+                } catch (IOException e) {
+                    // the client left before being registered
+                    connections.decrementAndGet();
+                }
+            }
+        }
+
+        /** Wakes the worker so it notices the server stopped and closes its connections. */
+        void close() {
+            selector.wakeup();
+        }
+    }
+
+    /** One client: its buffers and its current game. */
+    private final class Connection {
+
+        private final SocketChannel channel;
+        private final ByteBuffer in = ByteBuffer.allocate(MAX_LINE_BYTES);
+        private final StringBuilder out = new StringBuilder(64);
+        private final ProtocolUI ui = new ProtocolUI(out);
+        private ByteBuffer unsent;
+        private SelectionKey key;
+        private GameController controller;
+        private HangmanGame game;
+        private boolean closing;
+        /** Set once a line is rejected as too long, until its end is read. */
+        private boolean discarding;
+
+        Connection(SocketChannel channel) {
+            this.channel = channel;
+        }
+
+        void read() throws IOException {
+            if (channel.read(in) < 0) {
+                close();
+                return;
+            }
+            in.flip();
+            int lineStart = 0;
+            for (int i = 0; i < in.limit() && !closing; i++) {
+                if (in.get(i) == '\n') {
+                    if (discarding) {
+                        discarding = false;
+                    } else {
+                        int end = i > lineStart && in.get(i - 1) == '\r' ? i - 1 : i;
+                        handle(new String(in.array(), lineStart, end - lineStart, StandardCharsets.UTF_8));
+                    }
+                    lineStart = i + 1;
+                }
+            }
+            if (discarding) {
+                // still inside the rejected line
+                lineStart = in.limit();
+            }
+            in.position(lineStart);
+            in.compact();
+            if (!in.hasRemaining()) {
+                out.append("ERR line too long\n");
+                in.clear();
+                discarding = true;
+            }
+            flush();
+        }
+
+        private void handle(String line) {
+            String command = line.trim();
+            int space = command.indexOf(' ');
+            String verb = (space < 0 ? command : command.substring(0, space)).toUpperCase(Locale.ROOT);
+            String argument = space < 0 ? "" : command.substring(space + 1).trim();
+            switch (verb) {
+                case "NEW" -> newGame(argument);
+                case "GUESS" -> guess(argument);
+                case "STATE" -> {
+                    if (game == null) {
+                        out.append("ERR no game, send NEW\n");
+                    } else {
+                        ProtocolUI.appendState(game.getState(), out);
+                    }
+                }
+                case "QUIT" -> {
+                    out.append("BYE\n");
+                    closing = true;
+                }
+                default -> out.append("ERR unknown command\n");
+            }
+        }
+
+        private void newGame(String argument) {
+            try {
+                int maxErrors = argument.isEmpty() ? defaultMaxErrors : Integer.parseInt(argument);
+                game = new HangmanGame(words.getWord(), maxErrors);
+                controller = new GameController(game, ui);
+                controller.begin();
+            } catch (NumberFormatException e) {
+                out.append("ERR invalid max errors\n");
+            } catch (IllegalArgumentException | IOException e) {
+                out.append("ERR ").append(e.getMessage()).append('\n');
+            }
+        }
+
+        private void guess(String argument) {
+            if (controller == null) {
+                out.append("ERR no game, send NEW\n");
+            } else if (argument.codePointCount(0, argument.length()) != 1
+                    || !Character.isLetter(argument.charAt(0))) {
+                out.append("ERR expected one letter\n");
+            } else {
+                int written = out.length();
+                controller.play(argument.charAt(0));
+                if (out.length() == written) {
+                    // a finished game ignores letters silently
+                    out.append("ERR game over, send NEW\n");
+                }
+            }
+        }
+
+        void flush() throws IOException {
+            if (out.length() > 0) {
+                ByteBuffer encoded = StandardCharsets.UTF_8.encode(CharBuffer.wrap(out));
+                out.setLength(0);
+                if (unsent == null || !unsent.hasRemaining()) {
+                    unsent = encoded;
+                } else {
+                    ByteBuffer joined = ByteBuffer.allocate(unsent.remaining() + encoded.remaining());
+                    unsent = joined.put(unsent).put(encoded).flip();
+                }
+            }
+            if (unsent != null && unsent.hasRemaining()) {
+                channel.write(unsent);
+            }
+            if (unsent != null && unsent.hasRemaining()) {
+                // stop reading until the client has taken its answers
+                key.interestOps(SelectionKey.OP_WRITE);
+            } else if (closing) {
+                close();
+            } else {
+                key.interestOps(SelectionKey.OP_READ);
+            }
+        }
+
+        void close() {
+            if (!channel.isOpen()) {
+                return;
+            }
+            connections.decrementAndGet();
+            key.cancel();
+            try {
+                channel.close();
+            } catch (IOException e) {
+                // already gone
+            }
+        }
+    }
+}
@@ -0,0 +1,291 @@
+package com.mycompany.tp_note.simulation;
+
+import com.mycompany.tp_note.data.DictionaryWordProvider;
+import com.mycompany.tp_note.data.PatternIndex;
+import com.mycompany.tp_note.engine.GameState;
+import com.mycompany.tp_note.engine.GameState.Status;
+import com.mycompany.tp_note.engine.HangmanGame;
+import com.mycompany.tp_note.engine.LetterFolding;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.function.Supplier;
+import java.util.random.RandomGenerator;
+
+/**
+ * Headless engine playing every dictionary word with automated strategies.
+ * <p>
+ * The dictionary is split into ranges of words played in parallel on a
+ * fork/join pool. Each worker thread gets its own strategy instance,
+ * reused for all its games. When every word is played, ranges are cut on
+ * word boundaries so each word is counted by a single task in plain
+ * arrays; sampled games may draw a word in several tasks and are counted
+ * in atomic arrays.
+ * Word draws and strategy choices come from a seeded
+ * {@link SplittableRandom}, split along the task tree and then once per
+ * game, so a run replays exactly on any machine and thread count.
+ * </p>
+ */
+public class BatchSimulator {
+
+    /** Below this many games a range is played on the current thread. */
+    static final int GAMES_PER_TASK = 64;
+
+    /** Seed of the runs that do not choose one. */
+    public static final long DEFAULT_SEED = 0;
+
+    private final DictionaryWordProvider dictionary;
+    private final ForkJoinPool pool;
+    private final int[] wordLengths;
+
+    /**
+     * Creates a simulator running on the common fork/join pool.
+     *
+     * @param dictionary the words to play
+     */
+    public BatchSimulator(DictionaryWordProvider dictionary) {
+        this(dictionary, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a simulator running on the given pool.
+     *
+     * @param dictionary the words to play
+     * @param pool       the pool playing the games
+     */
+    public BatchSimulator(DictionaryWordProvider dictionary, ForkJoinPool pool) {
+        this.dictionary = dictionary;
+        this.pool = pool;
+        this.wordLengths = new int[dictionary.getSize()];
+        for (int i = 0; i < wordLengths.length; i++) {
+            wordLengths[i] = dictionary.getFoldedWord(i).length();
+        }
+    }
+
+    /**
+     * Plays every word {@code gamesPerWord} times with one strategy, with
+     * the default seed.
+     *
+     * @param name         the strategy name, for reporting
+     * @param strategy     creates strategy instances, one per worker thread
+     * @param maxErrors    the error limit of every game
+     * @param gamesPerWord the number of games per word
+     * @return the aggregated outcome
+     */
+    public SimulationResult run(String name, Supplier<? extends GuessingStrategy> strategy, int maxErrors,
+            int gamesPerWord) {
+        return run(name, strategy, maxErrors, gamesPerWord, DEFAULT_SEED);
+    }
+
+    /**
+     * Plays every word {@code gamesPerWord} times with one strategy.
+     *
+     * @param name         the strategy name, for reporting
+     * @param strategy     creates strategy instances, one per worker thread
+     * @param maxErrors    the error limit of every game
+     * @param gamesPerWord the number of games per word
+     * @param seed         seeds the random choices of the strategy
+     * @return the aggregated outcome
+     */
+    public SimulationResult run(String name, Supplier<? extends GuessingStrategy> strategy, int maxErrors,
+            int gamesPerWord, long seed) {
+        if (gamesPerWord < 1) {
+            throw new IllegalArgumentException("Games per word must be at least 1.");
+        }
+        return simulate(name, strategy, maxErrors, (long) wordLengths.length * gamesPerWord, gamesPerWord, seed);
+    }
+
+    /**
+     * Plays {@code games} games on words drawn at random, as a load test
+     * would. The same seed replays the same words and the same random
+     * choices, whatever the pool parallelism.
+     *
+     * @param name      the strategy name, for reporting
+     * @param strategy  creates strategy instances, one per worker thread
+     * @param maxErrors the error limit of every game
+     * @param games     the number of games
+     * @param seed      seeds the word draws and the strategy's choices
+     * @return the aggregated outcome
+     */
+    public SimulationResult sample(String name, Supplier<? extends GuessingStrategy> strategy, int maxErrors,
+            long games, long seed) {
+        if (games < 1) {
+            throw new IllegalArgumentException("Must play at least one game.");
+        }
+        return simulate(name, strategy, maxErrors, games, 0, seed);
+    }
+
+    private SimulationResult simulate(String name, Supplier<? extends GuessingStrategy> strategy, int maxErrors,
+            long games, int gamesPerWord, long seed) {
+        if (maxErrors < 1) {
+            throw new IllegalArgumentException("Max errors must be at least 1.");
+        }
+        long start = System.nanoTime();
+        ThreadLocal<GuessingStrategy> players = ThreadLocal.withInitial(strategy::get);
+        int[] played;
+        int[] wins;
+        if (gamesPerWord > 0) {
+            played = new int[wordLengths.length];
+            Arrays.fill(played, gamesPerWord);
+            wins = new int[wordLengths.length];
+            pool.invoke(new SimulateTask(players, maxErrors, gamesPerWord, wins, null, null,
+                    new SplittableRandom(seed), 0, games));
+        } else {
+            AtomicIntegerArray sampled = new AtomicIntegerArray(wordLengths.length);
+            AtomicIntegerArray sampledWins = new AtomicIntegerArray(wordLengths.length);
+            pool.invoke(new SimulateTask(players, maxErrors, 0, null, sampled, sampledWins,
+                    new SplittableRandom(seed), 0, games));
+            played = toArray(sampled);
+            wins = toArray(sampledWins);
+        }
+        return new SimulationResult(name, maxErrors, gamesPerWord, played, wins, wordLengths,
+                System.nanoTime() - start);
+    }
+
+    private static int[] toArray(AtomicIntegerArray counts) {
+        int[] array = new int[counts.length()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = counts.get(i);
+        }
+        return array;
+    }
+
+    /**
+     * Plays every strategy with every error limit.
+     *
+     * @param strategies   strategy factories keyed by name
+     * @param maxErrors    the error limits to try
+     * @param gamesPerWord the number of games per word
+     * @return one result per strategy and error limit, strategies first
+     */
+    public List<SimulationResult> runAll(Map<String, ? extends Supplier<? extends GuessingStrategy>> strategies,
+            int[] maxErrors, int gamesPerWord) {
+        List<SimulationResult> results = new ArrayList<>();
+        strategies.forEach((name, strategy) -> {
+            for (int limit : maxErrors) {
+                results.add(run(name, strategy, limit, gamesPerWord));
+            }
+        });
+        return results;
+    }
+
+    /**
+     * Plays one game to the end.
+     *
+     * @return true if the strategy won
+     */
+    static boolean play(HangmanGame game, GuessingStrategy strategy, RandomGenerator random) {
+        GameState state = game.getState();
+        strategy.newGame(state, random);
+        while (state.getCurrentStatus() == Status.PLAYING) {
+            char letter = strategy.nextGuess(state);
+            if (!Character.isLetter(letter) || state.isGuessed(LetterFolding.fold(letter))) {
+                throw new IllegalStateException("Strategy repeated or invalid guess: " + letter);
+            }
+            game.guessLetter(letter);
+        }
+        return state.getCurrentStatus() == Status.WON;
+    }
+
+    /**
+     * Command-line entry point: {@code BatchSimulator [maxErrors...]},
+     * playing the bundled dictionary with every error limit (default 6, 8
+     * and 10) and printing the win rates and throughput.
+     *
+     * @param args the error limits
+     * @throws IOException if the dictionary cannot be loaded
+     */
+    public static void main(String[] args) throws IOException {
+        int[] maxErrors = args.length == 0 ? new int[] { 6, 8, 10 } : new int[args.length];
+        for (int i = 0; i < args.length; i++) {
+            maxErrors[i] = Integer.parseInt(args[i]);
+        }
+        DictionaryWordProvider dictionary = new DictionaryWordProvider();
+        BatchSimulator simulator = new BatchSimulator(dictionary);
+        Map<String, Supplier<GuessingStrategy>> strategies = new LinkedHashMap<>();
+        PatternIndex index = dictionary.getPatternIndex();
+        strategies.put("hasard", RandomStrategy::new);
+        strategies.put("ordre fixe", () -> GuessingStrategy.inOrder(CandidateStrategy.FRENCH_ORDER));
+        strategies.put("fréquence", () -> new FrequencyStrategy(index));
+        strategies.put("positions", () -> new PositionalStrategy(index));
+        strategies.put("entropie", () -> new EntropyStrategy(index));
+        for (SimulationResult result : simulator.runAll(strategies, maxErrors, 1)) {
+            System.out.println(result);
+            System.out.println("  par longueur : " + result.winRateByLength());
+        }
+    }
+
+    /**
+     * Plays games {@code [from, to)}. The tree of tasks, hence the split of
+     * the random source, only depends on the number of games (and of games
+     * per word), so results do not depend on which thread runs which task.
+     */
+    private final class SimulateTask extends RecursiveAction {
+
+        private final ThreadLocal<GuessingStrategy> players;
+        private final int maxErrors;
+        /** 0 to draw each game's word at random. */
+        private final int gamesPerWord;
+        /** Wins per word when every word is played; each word has one writer. */
+        private final int[] wins;
+        /** Games and wins per word when sampling. */
+        private final AtomicIntegerArray sampled;
+        private final AtomicIntegerArray sampledWins;
+        private final SplittableRandom random;
+        private final long from;
+        private final long to;
+
+        SimulateTask(ThreadLocal<GuessingStrategy> players, int maxErrors, int gamesPerWord, int[] wins,
+                AtomicIntegerArray sampled, AtomicIntegerArray sampledWins, SplittableRandom random,
+                long from, long to) {
+            this.players = players;
+            this.maxErrors = maxErrors;
+            this.gamesPerWord = gamesPerWord;
+            this.wins = wins;
+            this.sampled = sampled;
+            this.sampledWins = sampledWins;
+            this.random = random;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > GAMES_PER_TASK && to - from >= 2L * gamesPerWord) {
+                long mid = (from + to) >>> 1;
+                // whole words on each side, so no word is counted by two tasks
+                mid -= gamesPerWord > 0 ? mid % gamesPerWord : 0;
+                SimulateTask left = new SimulateTask(players, maxErrors, gamesPerWord, wins, sampled,
+                        sampledWins, random.split(), from, mid);
+                SimulateTask right = new SimulateTask(players, maxErrors, gamesPerWord, wins, sampled,
+                        sampledWins, random, mid, to);
+                invokeAll(left, right);
+                return;
+            }
+            GuessingStrategy player = players.get();
+            for (long g = from; g < to; g++) {
+                int i = gamesPerWord > 0 ? (int) (g / gamesPerWord) : random.nextInt(wordLengths.length);
+                HangmanGame game = new HangmanGame(dictionary.getWord(i), dictionary.getFoldedWord(i), maxErrors);
+                boolean won = play(game, player, random.split());
+                if (gamesPerWord > 0) {
+                    if (won) {
+                        wins[i]++;
+                    }
+                } else {
+                    sampled.incrementAndGet(i);
+                    if (won) {
+                        sampledWins.incrementAndGet(i);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.mycompany.tp_note.simulation;
+
+import com.mycompany.tp_note.data.PatternIndex;
+import com.mycompany.tp_note.engine.GameState;
+
+import java.util.Arrays;
+
+/**
+ * Dictionary words still consistent with what a player can see of a game:
+ * the masked word and the guessed letters.
+ * <p>
+ * The set is built once per game from the {@link PatternIndex}, then only
+ * narrowed: each new guess removes the candidates that contain a missed
+ * letter, or whose occurrences of a hit letter differ from the revealed
+ * positions. An update costs one pass over the remaining candidates, which
+ * shrink quickly, instead of a dictionary scan. The ids are kept in a
+ * reusable array, so updates allocate nothing.
+ * </p>
+ * <p>
+ * The secret word is never read: only letters already guessed are looked
+ * up in the state.
+ * </p>
+ */
+public final class CandidateSet {
+
+    private static final int LETTERS = 26;
+
+    private final PatternIndex index;
+    private final long[] bits;
+    private int[] ids = new int[64];
+    private int size;
+    private int seenMask;
+
+    /**
+     * Creates an empty set over the given index.
+     *
+     * @param index the dictionary index
+     */
+    public CandidateSet(PatternIndex index) {
+        this.index = index;
+        this.bits = new long[(index.size() + 63) >>> 6];
+    }
+
+    /**
+     * Recomputes the candidates from scratch for the given game.
+     *
+     * @param state the game state
+     */
+    public void reset(GameState state) {
+        int guessed = state.guessedMask();
+        int wrong = 0;
+        for (int letters = guessed; letters != 0; letters &= letters - 1) {
+            int letter = Integer.numberOfTrailingZeros(letters);
+            if (!state.containsLetter((char) ('A' + letter))) {
+                wrong |= 1 << letter;
+            }
+        }
+        int count = index.matchInto(state.maskedView(), wrong, bits);
+        if (ids.length < count) {
+            ids = new int[count];
+        }
+        size = 0;
+        for (int slot = 0; slot < bits.length; slot++) {
+            for (long word = bits[slot]; word != 0; word &= word - 1) {
+                ids[size++] = (slot << 6) + Long.numberOfTrailingZeros(word);
+            }
+        }
+        seenMask = guessed;
+    }
+
+    /**
+     * Narrows the candidates with the letters guessed since the last call.
+     *
+     * @param state the same game, a few guesses later
+     */
+    public void update(GameState state) {
+        int added = state.guessedMask() & ~seenMask;
+        for (; added != 0; added &= added - 1) {
+            char letter = (char) ('A' + Integer.numberOfTrailingZeros(added));
+            if (state.containsLetter(letter)) {
+                keepPositions(state, letter);
+            } else {
+                removeContaining(letter);
+            }
+        }
+        seenMask = state.guessedMask();
+    }
+
+    private void removeContaining(char letter) {
+        int bit = 1 << (letter - 'A');
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            if ((index.getLetterMask(ids[i]) & bit) == 0) {
+                ids[kept++] = ids[i];
+            }
+        }
+        size = kept;
+    }
+
+    private void keepPositions(GameState state, char letter) {
+        long positions = state.positionMask(letter);
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            String word = index.getWord(ids[i]);
+            boolean matches = true;
+            for (int pos = 0; pos < word.length() && matches; pos++) {
+                boolean revealed = (positions >>> pos & 1) != 0;
+                matches = (word.charAt(pos) == letter) == revealed;
+            }
+            if (matches) {
+                ids[kept++] = ids[i];
+            }
+        }
+        size = kept;
+    }
+
+    /**
+     * Returns the number of candidates.
+     *
+     * @return the candidate count, 0 if the word is not in the dictionary
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns a candidate's word id.
+     *
+     * @param i a value in {@code [0, size())}
+     * @return the dictionary id
+     */
+    public int id(int i) {
+        return ids[i];
+    }
+
+    /**
+     * Returns a candidate word.
+     *
+     * @param i a value in {@code [0, size())}
+     * @return the folded word
+     */
+    public String word(int i) {
+        return index.getWord(ids[i]);
+    }
+
+    /**
+     * Returns the distinct letters of a candidate word.
+     *
+     * @param i a value in {@code [0, size())}
+     * @return the letter mask (bit 0 = 'A')
+     */
+    public int letterMask(int i) {
+        return index.getLetterMask(ids[i]);
+    }
+
+    /**
+     * Counts, for each letter, the candidates containing it.
+     *
+     * @param counts receives the counts, indexed by letter ({@code A}=0)
+     */
+    public void countWordsPerLetter(int[] counts) {
+        Arrays.fill(counts, 0, LETTERS, 0);
+        for (int i = 0; i < size; i++) {
+            for (int mask = index.getLetterMask(ids[i]); mask != 0; mask &= mask - 1) {
+                counts[Integer.numberOfTrailingZeros(mask)]++;
+            }
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.mycompany.tp_note.simulation;
+
+import com.mycompany.tp_note.data.PatternIndex;
+import com.mycompany.tp_note.engine.GameState;
+
+import java.util.Arrays;
+
+/**
+ * Base of the strategies that reason on the dictionary words still
+ * possible. The {@link CandidateSet} is reset at the start of a game and
+ * narrowed at each guess; a subclass only scores the letters.
+ * <p>
+ * When the secret word is not in the dictionary, no candidate remains and
+ * the letters are guessed in French frequency order.
+ * </p>
+ */
+public abstract class CandidateStrategy implements GuessingStrategy {
+
+    /** Letters by decreasing frequency in French. */
+    public static final String FRENCH_ORDER = "EASITNRULODCPMVQFBGHJXYZWK";
+
+    static final int LETTERS = 26;
+
+    private static final GuessingStrategy FALLBACK = GuessingStrategy.inOrder(FRENCH_ORDER);
+
+    protected final CandidateSet candidates;
+    private GameState game;
+    /** First guess per word length, the costliest decision and always the same. */
+    private char[] openings = new char[16];
+
+    /**
+     * Creates a strategy drawing its candidates from the given index.
+     *
+     * @param index the dictionary index
+     */
+    protected CandidateStrategy(PatternIndex index) {
+        this.candidates = new CandidateSet(index);
+    }
+
+    @Override
+    public void newGame(GameState state) {
+        game = state;
+        candidates.reset(state);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Also works on a game joined mid-way (e.g. for a hint): the candidates
+     * are then computed from scratch.
+     * </p>
+     */
+    @Override
+    public char nextGuess(GameState state) {
+        if (state != game) {
+            newGame(state);
+        } else {
+            candidates.update(state);
+        }
+        if (state.guessedMask() != 0) {
+            return choose(state);
+        }
+        int length = (state.maskedView().length() + 1) / 2;
+        if (length >= openings.length) {
+            openings = Arrays.copyOf(openings, length + 1);
+        }
+        if (openings[length] == 0) {
+            openings[length] = choose(state);
+        }
+        return openings[length];
+    }
+
+    private char choose(GameState state) {
+        int letter = candidates.size() == 0 ? -1 : bestLetter(state.guessedMask());
+        return letter < 0 ? FALLBACK.nextGuess(state) : (char) ('A' + letter);
+    }
+
+    /**
+     * Picks the most promising letter among the candidates.
+     *
+     * @param guessed the letters already guessed (bit 0 = 'A')
+     * @return the letter index ({@code A}=0), or -1 to use the fallback order
+     */
+    protected abstract int bestLetter(int guessed);
+
+    /**
+     * Returns the unguessed letter with the highest score.
+     *
+     * @return the letter index, or -1 if no unguessed letter scores above 0
+     */
+    static int argMax(int[] scores, int guessed) {
+        int best = -1;
+        for (int letter = 0; letter < LETTERS; letter++) {
+            if ((guessed & (1 << letter)) == 0 && scores[letter] > 0
+                    && (best < 0 || scores[letter] > scores[best])) {
+                best = letter;
+            }
+        }
+        return best;
+    }
+}
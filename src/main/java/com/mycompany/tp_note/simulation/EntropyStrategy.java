@@ -0,0 +1,91 @@
+package com.mycompany.tp_note.simulation;
+
+import com.mycompany.tp_note.data.PatternIndex;
+
+import java.util.Arrays;
+
+/**
+ * Guesses the letter with the highest expected information: the candidates
+ * are grouped by the positions at which the letter would be revealed (none
+ * for a miss), and the letter splitting them into the most even groups,
+ * i.e. with the highest entropy, wins. Ties go to the letter contained in
+ * the most candidates.
+ */
+public class EntropyStrategy extends CandidateStrategy {
+
+    private static final double EPSILON = 1e-9;
+
+    private final int[] counts = new int[LETTERS];
+    private long[] signatures = new long[64];
+
+    public EntropyStrategy(PatternIndex index) {
+        super(index);
+    }
+
+    @Override
+    protected int bestLetter(int guessed) {
+        int size = candidates.size();
+        if (signatures.length < size) {
+            signatures = new long[size];
+        }
+        candidates.countWordsPerLetter(counts);
+
+        int best = -1;
+        double bestEntropy = -1;
+        for (int letter = 0; letter < LETTERS; letter++) {
+            if ((guessed & (1 << letter)) != 0 || counts[letter] == 0) {
+                continue;
+            }
+            double entropy = entropy(letter, size);
+            if (entropy > bestEntropy + EPSILON
+                    || (entropy > bestEntropy - EPSILON && counts[letter] > counts[best])) {
+                best = letter;
+                bestEntropy = entropy;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Entropy, in bits, of the partition of the candidates by the positions
+     * of the given letter.
+     */
+    private double entropy(int letter, int size) {
+        char c = (char) ('A' + letter);
+        int bit = 1 << letter;
+        int hits = 0;
+        for (int i = 0; i < size; i++) {
+            if ((candidates.letterMask(i) & bit) != 0) {
+                signatures[hits++] = signature(candidates.word(i), c);
+            }
+        }
+        // the candidates without the letter form one group
+        int misses = size - hits;
+        double sum = misses == 0 ? 0 : misses * Math.log(misses);
+        Arrays.sort(signatures, 0, hits);
+        int run = 1;
+        for (int i = 1; i <= hits; i++) {
+            if (i < hits && signatures[i] == signatures[i - 1]) {
+                run++;
+            } else {
+                sum += run * Math.log(run);
+                run = 1;
+            }
+        }
+        return (Math.log(size) - sum / size) / Math.log(2);
+    }
+
+    /**
+     * Positions of a letter in a word, bit i = index i (playable words
+     * have at most 64 letters).
+     */
+    private static long signature(String word, char letter) {
+        long positions = 0;
+        for (int pos = 0; pos < word.length(); pos++) {
+            if (word.charAt(pos) == letter) {
+                positions |= 1L << pos;
+            }
+        }
+        return positions;
+    }
+}
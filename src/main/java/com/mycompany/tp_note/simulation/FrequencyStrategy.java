@@ -0,0 +1,22 @@
+package com.mycompany.tp_note.simulation;
+
+import com.mycompany.tp_note.data.PatternIndex;
+
+/**
+ * Guesses the letter contained in the most remaining candidates, i.e. the
+ * one most likely to be in the word.
+ */
+public class FrequencyStrategy extends CandidateStrategy {
+
+    private final int[] counts = new int[LETTERS];
+
+    public FrequencyStrategy(PatternIndex index) {
+        super(index);
+    }
+
+    @Override
+    protected int bestLetter(int guessed) {
+        candidates.countWordsPerLetter(counts);
+        return argMax(counts, guessed);
+    }
+}
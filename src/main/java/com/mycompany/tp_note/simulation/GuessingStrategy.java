@@ -0,0 +1,66 @@
+package com.mycompany.tp_note.simulation;
+
+import com.mycompany.tp_note.engine.GameState;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Automated player: picks the next letter to guess from the visible state
+ * of a game (masked word, guessed letters, remaining errors).
+ * <p>
+ * An instance plays one game at a time and may keep state between guesses;
+ * {@link #newGame(GameState)} (or its seeded variant) is called before the
+ * first guess of every game, so an instance can be reused across games by
+ * the same thread.
+ * </p>
+ */
+public interface GuessingStrategy {
+
+    /**
+     * Prepares for a new game.
+     *
+     * @param state the state of the game about to be played
+     */
+    default void newGame(GameState state) {
+    }
+
+    /**
+     * Prepares for a new game with a seeded randomness source, for
+     * strategies that make random choices. The source belongs to this game
+     * only, so a simulation replays exactly whatever the thread count.
+     *
+     * @param state  the state of the game about to be played
+     * @param random the randomness source of this game
+     */
+    default void newGame(GameState state, RandomGenerator random) {
+        newGame(state);
+    }
+
+    /**
+     * Chooses the next guess.
+     *
+     * @param state the current game state, still playing
+     * @return a letter {@code A-Z} not guessed yet
+     */
+    char nextGuess(GameState state);
+
+    /**
+     * Guesses letters in a fixed order, ignoring the word.
+     *
+     * @param letters the 26 letters {@code A-Z}, most promising first
+     * @return the strategy
+     */
+    static GuessingStrategy inOrder(String letters) {
+        if (letters.length() != 26 || letters.chars().distinct().filter(c -> c >= 'A' && c <= 'Z').count() != 26) {
+            throw new IllegalArgumentException("Expected each letter A-Z once: " + letters);
+        }
+        return state -> {
+            for (int i = 0; i < letters.length(); i++) {
+                if (!state.isGuessed(letters.charAt(i))) {
+                    return letters.charAt(i);
+                }
+            }
+            throw new IllegalStateException("Every letter has been guessed.");
+        };
+    }
+}
@@ -0,0 +1,32 @@
+package com.mycompany.tp_note.simulation;
+
+import com.mycompany.tp_note.data.PatternIndex;
+
+import java.util.Arrays;
+
+/**
+ * Guesses the letter filling the most hidden positions over the remaining
+ * candidates, i.e. the one expected to reveal the most of the word.
+ */
+public class PositionalStrategy extends CandidateStrategy {
+
+    private final int[] counts = new int[LETTERS];
+
+    public PositionalStrategy(PatternIndex index) {
+        super(index);
+    }
+
+    @Override
+    protected int bestLetter(int guessed) {
+        Arrays.fill(counts, 0);
+        for (int i = 0; i < candidates.size(); i++) {
+            String word = candidates.word(i);
+            // one point per position a letter holds, summed over the candidates
+            for (int pos = 0; pos < word.length(); pos++) {
+                counts[word.charAt(pos) - 'A']++;
+            }
+        }
+        // guessed letters hold exactly the revealed positions, and are skipped
+        return argMax(counts, guessed);
+    }
+}
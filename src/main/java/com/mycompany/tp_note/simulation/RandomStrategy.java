@@ -0,0 +1,38 @@
+package com.mycompany.tp_note.simulation;
+
+import com.mycompany.tp_note.engine.GameState;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * Guesses a uniformly random unguessed letter: a baseline, and a noisy
+ * player for load tests. Seeded through
+ * {@link #newGame(GameState, RandomGenerator)}, its games are reproducible.
+ */
+public class RandomStrategy implements GuessingStrategy {
+
+    private RandomGenerator random = ThreadLocalRandom.current();
+
+    @Override
+    public void newGame(GameState state) {
+        random = ThreadLocalRandom.current();
+    }
+
+    @Override
+    public void newGame(GameState state, RandomGenerator random) {
+        this.random = random;
+    }
+
+    @Override
+    public char nextGuess(GameState state) {
+        int remaining = ~state.guessedMask() & ((1 << 26) - 1);
+        if (remaining == 0) {
+            throw new IllegalStateException("Every letter has been guessed.");
+        }
+        for (int skip = random.nextInt(Integer.bitCount(remaining)); skip > 0; skip--) {
+            remaining &= remaining - 1;
+        }
+        return (char) ('A' + Integer.numberOfTrailingZeros(remaining));
+    }
+}
@@ -0,0 +1,154 @@
+package com.mycompany.tp_note.simulation;
+
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * Outcome of one strategy playing dictionary words with one error limit,
+ * as produced by {@link BatchSimulator}.
+ */
+public final class SimulationResult {
+
+    private final String strategy;
+    private final int maxErrors;
+    private final int gamesPerWord;
+    private final int[] games;
+    private final int[] wins;
+    private final int[] wordLengths;
+    private final long elapsedNanos;
+
+    SimulationResult(String strategy, int maxErrors, int gamesPerWord, int[] games, int[] wins,
+            int[] wordLengths, long elapsedNanos) {
+        this.strategy = strategy;
+        this.maxErrors = maxErrors;
+        this.gamesPerWord = gamesPerWord;
+        this.games = games;
+        this.wins = wins;
+        this.wordLengths = wordLengths;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public String getStrategy() {
+        return strategy;
+    }
+
+    public int getMaxErrors() {
+        return maxErrors;
+    }
+
+    /**
+     * Returns the number of games played on each word.
+     *
+     * @return the games per word of {@link BatchSimulator#run}, or 0 for a
+     *         {@link BatchSimulator#sample}, whose counts vary by word (see
+     *         {@link #getGames(int)})
+     */
+    public int getGamesPerWord() {
+        return gamesPerWord;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Returns the number of games played.
+     *
+     * @return the total games
+     */
+    public long getGames() {
+        return sum(games);
+    }
+
+    /**
+     * Returns the number of games played on one word.
+     *
+     * @param wordIndex the dictionary index of the word
+     * @return the games on that word
+     */
+    public int getGames(int wordIndex) {
+        return games[wordIndex];
+    }
+
+    /**
+     * Returns the number of games won.
+     *
+     * @return the total wins
+     */
+    public long getWins() {
+        return sum(wins);
+    }
+
+    /**
+     * Returns the number of games won on one word.
+     *
+     * @param wordIndex the dictionary index of the word
+     * @return the wins on that word, at most {@link #getGames(int)}
+     */
+    public int getWins(int wordIndex) {
+        return wins[wordIndex];
+    }
+
+    /**
+     * Returns the overall win rate.
+     *
+     * @return wins / games, in {@code [0, 1]}
+     */
+    public double winRate() {
+        return (double) getWins() / getGames();
+    }
+
+    /**
+     * Returns the win rate on one word.
+     *
+     * @param wordIndex the dictionary index of the word
+     * @return wins / games on that word, NaN if it was not played
+     */
+    public double winRate(int wordIndex) {
+        return (double) wins[wordIndex] / games[wordIndex];
+    }
+
+    /**
+     * Returns the win rate for each word length.
+     *
+     * @return win rates keyed by word length, shortest first; lengths
+     *         never played are left out
+     */
+    public SortedMap<Integer, Double> winRateByLength() {
+        SortedMap<Integer, long[]> totals = new TreeMap<>();
+        for (int i = 0; i < wins.length; i++) {
+            if (games[i] == 0) {
+                continue;
+            }
+            long[] t = totals.computeIfAbsent(wordLengths[i], k -> new long[2]);
+            t[0] += wins[i];
+            t[1] += games[i];
+        }
+        SortedMap<Integer, Double> rates = new TreeMap<>();
+        totals.forEach((length, t) -> rates.put(length, (double) t[0] / t[1]));
+        return rates;
+    }
+
+    /**
+     * Simulation throughput.
+     *
+     * @return games played per second
+     */
+    public double gamesPerSecond() {
+        return elapsedNanos == 0 ? 0 : getGames() / (elapsedNanos / 1e9);
+    }
+
+    private static long sum(int[] counts) {
+        long total = 0;
+        for (int c : counts) {
+            total += c;
+        }
+        return total;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s, %d errors: %.2f%% won over %d games, %.0f games/s",
+                strategy, maxErrors, winRate() * 100, getGames(), gamesPerSecond());
+    }
+}
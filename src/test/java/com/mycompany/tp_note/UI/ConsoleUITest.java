@@ -98,6 +98,25 @@ public class ConsoleUITest {
                 "Guessed letters should be sorted and joined with ', '");
     }
 
+    @Test
+    void rejectedLettersRedisplayTheLastState() {
+        ConsoleUI ui = new ConsoleUI();
+        GameState state = new GameState("JAVA", 7);
+        ui.displayGameState(state);
+        out.reset();
+
+        ui.displayAlreadyGuessed('A');
+        String o = output();
+        assertTrue(o.contains("déjà été proposée"), "Should warn about the repeat");
+        assertTrue(o.contains("Mot :"), "Should show the game again");
+        out.reset();
+
+        ui.displayInvalidLetter('1');
+        o = output();
+        assertTrue(o.contains("'1' n'est pas une lettre"), "Should warn about the input");
+        assertTrue(o.contains("Mot :"), "Should show the game again");
+    }
+
     @Test
     void displayEndGameWonPrintsCongratulationsAndSecretWord() {
         ConsoleUI ui = new ConsoleUI();
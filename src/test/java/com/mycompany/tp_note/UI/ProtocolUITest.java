@@ -0,0 +1,34 @@
+package com.mycompany.tp_note.UI;
+
+import com.mycompany.tp_note.engine.HangmanGame;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ProtocolUITest {
+
+    @Test
+    void testStateLine() {
+        HangmanGame game = new HangmanGame("ÉTÉ", 5);
+        StringBuilder out = new StringBuilder();
+        ProtocolUI ui = new ProtocolUI(out);
+        ui.displayGameState(game.getState());
+        game.guessLetter('e');
+        game.guessLetter('Z');
+        ui.displayGameState(game.getState());
+        assertEquals("STATE ___ 0 5 PLAYING -\nSTATE É_É 1 5 PLAYING EZ\n", out.toString());
+    }
+
+    @Test
+    void testEndAndDuplicateLines() {
+        HangmanGame game = new HangmanGame("AB", 5);
+        game.guessLetter('A');
+        game.guessLetter('B');
+        StringBuilder out = new StringBuilder();
+        ProtocolUI ui = new ProtocolUI(out);
+        ui.displayAlreadyGuessed('a');
+        ui.displayInvalidLetter('1');
+        ui.displayEndGame(game.getState());
+        assertEquals("ALREADY a\nERR expected one letter\nEND WON AB\n", out.toString());
+    }
+}
@@ -0,0 +1,97 @@
+package com.mycompany.tp_note.UI;
+
+import com.mycompany.tp_note.engine.GameController;
+import com.mycompany.tp_note.engine.HangmanGame;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CancellationException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SocketUITest {
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    private SocketUI ui(String input) {
+        return new SocketUI(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)), out);
+    }
+
+    private String output() {
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void testBlockingGameLoop() throws IOException {
+        SocketUI ui = ui("STATE\nNEW 3\nGUESS 1\nSTATE\nguess a\r\nGUESS A\nGUESS V\nGUESS J\nGUESS B\nQUIT\n");
+        assertEquals(3, ui.awaitNewGame(7));
+        new GameController(new HangmanGame("JAVA", 3), ui).startGame();
+        assertThrows(EOFException.class, () -> ui.awaitNewGame(7));
+        assertEquals("ERR no game, send NEW\n"
+                + "STATE ____ 0 3 PLAYING -\n"
+                + "ERR expected one letter\n"
+                + "STATE ____ 0 3 PLAYING -\n"
+                + "STATE _A_A 0 3 PLAYING A\n"
+                + "ALREADY A\n"
+                + "STATE _AVA 0 3 PLAYING AV\n"
+                + "END WON JAVA\n"
+                + "ERR game over, send NEW\n"
+                + "BYE\n", output());
+    }
+
+    @Test
+    void testNewGameInterruptsTheCurrentOne() throws IOException {
+        SocketUI ui = ui("NEW\nGUESS Z\nNEW x\nHELLO\nNEW 2\n");
+        assertEquals(7, ui.awaitNewGame(7));
+        GameController controller = new GameController(new HangmanGame("JAVA", 7), ui);
+        assertThrows(CancellationException.class, controller::startGame);
+        assertEquals(2, ui.awaitNewGame(7));
+        ui.flush();
+        assertEquals("STATE ____ 0 7 PLAYING -\n"
+                + "STATE ____ 1 7 PLAYING Z\n"
+                + "ERR invalid max errors\n"
+                + "ERR unknown command\n", output());
+    }
+
+    @Test
+    void testPipelinedAnswersAreWrittenInBoundedChunks() throws IOException {
+        int[] largestWrite = {0};
+        ByteArrayOutputStream sink = new ByteArrayOutputStream() {
+            @Override
+            public void write(byte[] b, int off, int len) {
+                largestWrite[0] = Math.max(largestWrite[0], len);
+                super.write(b, off, len);
+            }
+        };
+        String commands = "STATE\n".repeat(2_000);
+        SocketUI ui = new SocketUI(new ByteArrayInputStream(commands.getBytes(StandardCharsets.UTF_8)), sink);
+        assertThrows(EOFException.class, () -> ui.awaitNewGame(7));
+        ui.flush();
+        String answer = "ERR no game, send NEW\n";
+        assertEquals(answer.repeat(2_000), sink.toString(StandardCharsets.UTF_8));
+        assertTrue(largestWrite[0] < SocketUI.FLUSH_BYTES + answer.length());
+    }
+
+    @Test
+    void testSecretWordFromClient() throws IOException {
+        SocketUI ui = ui("GUESS A\nWORD l'eau\nWORD\nWORD Été\n");
+        assertEquals("Été", ui.askForSecretWord());
+        assertThrows(UncheckedIOException.class, ui::askForSecretWord);
+        assertEquals("ERR expected WORD <word>\n"
+                + "ERR invalid word\n"
+                + "ERR invalid word\n", output());
+    }
+
+    @Test
+    void testClosedConnectionAndLongLines() throws IOException {
+        SocketUI ui = ui("STATE " + "X".repeat(SocketUI.MAX_LINE_BYTES) + "\nGUESS");
+        assertThrows(UncheckedIOException.class, ui::askForLetter);
+        ui.flush();
+        assertEquals("ERR line too long\n", output());
+    }
+}
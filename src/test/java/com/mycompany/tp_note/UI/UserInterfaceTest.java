@@ -33,6 +33,11 @@ public class UserInterfaceTest {
         public void displayAlreadyGuessed(char letter) {
             // no-op
         }
+
+        @Override
+        public void displayInvalidLetter(char input) {
+            // no-op
+        }
     }
 
     @Test
@@ -0,0 +1,123 @@
+package com.mycompany.tp_note.data;
+
+import com.mycompany.tp_note.engine.GameState;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ForkJoinPool;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DictionaryLoaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testPlainFileIsValidatedAndDeduplicated() throws IOException {
+        Path file = tempDir.resolve("words.txt");
+        Files.write(file, List.of(" java ", "Pendu", "", "ab1", "JAVA", "l'eau", "x\r"));
+
+        DictionaryLoader.Result result = new DictionaryLoader().load(file);
+
+        assertEquals(List.of("JAVA", "PENDU", "X"), result.words());
+        assertEquals(1, result.stats().files());
+        assertEquals(1, result.stats().duplicatesRemoved());
+    }
+
+    @Test
+    public void testUnplayablyLongWordsSkipped() throws IOException {
+        Path file = tempDir.resolve("long.txt");
+        String longest = "A".repeat(GameState.MAX_WORD_LENGTH);
+        Files.write(file, List.of(longest + "B", longest, "É" + longest));
+
+        assertEquals(List.of(longest), new DictionaryLoader().load(file).words());
+    }
+
+    @Test
+    public void testLongestAccentedWordsKept() throws IOException {
+        Path file = tempDir.resolve("accents.txt");
+        String accented = "é".repeat(GameState.MAX_WORD_LENGTH);
+        String mixed = "É" + "A".repeat(GameState.MAX_WORD_LENGTH - 1);
+        Files.write(file, List.of(accented, mixed, accented + "e"));
+
+        assertEquals(List.of(accented.toUpperCase(Locale.ROOT), mixed), new DictionaryLoader().load(file).words());
+    }
+
+    @Test
+    public void testAccentedWordsKeptUppercase() throws IOException {
+        Path file = tempDir.resolve("mots.txt");
+        Files.write(file, List.of("été", "garçon", "cœur", "CAFÉ"));
+
+        assertEquals(List.of("ÉTÉ", "GARÇON", "CAFÉ"), new DictionaryLoader().load(file).words());
+    }
+
+    @Test
+    public void testGzipFile() throws IOException {
+        Path file = tempDir.resolve("words.txt.gz");
+        try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(file))) {
+            out.write("alpha\nbeta\n".getBytes(StandardCharsets.UTF_8));
+        }
+
+        assertEquals(List.of("ALPHA", "BETA"), new DictionaryLoader().load(file).words());
+    }
+
+    @Test
+    public void testDirectoryMergedInNameOrder() throws IOException {
+        Path dir = Files.createDirectory(tempDir.resolve("lists"));
+        Files.write(dir.resolve("b.txt"), List.of("TWO", "ONE"));
+        Files.write(dir.resolve("a.txt"), List.of("ONE", "ZERO"));
+
+        DictionaryLoader.Result result = new DictionaryLoader().load(dir);
+
+        assertEquals(List.of("ONE", "ZERO", "TWO"), result.words());
+        assertEquals(2, result.stats().files());
+        assertEquals(1, result.stats().duplicatesRemoved());
+    }
+
+    @Test
+    public void testLargeInputSplitAcrossChunks() throws IOException {
+        StringBuilder text = new StringBuilder();
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; text.length() < 4 * DictionaryLoader.CHUNK_BYTES; i++) {
+            String word = lettersOf(i);
+            text.append(word).append('\n');
+            expected.add(word.toUpperCase());
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            DictionaryLoader.Result result = new DictionaryLoader(pool)
+                    .load(new ByteArrayInputStream(text.toString().getBytes(StandardCharsets.US_ASCII)));
+            assertEquals(expected, result.words());
+            assertEquals(4, result.stats().parallelism());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /** Spells {@code n} in base 26 with lowercase letters, so every word is distinct. */
+    private static String lettersOf(int n) {
+        StringBuilder sb = new StringBuilder();
+        do {
+            sb.append((char) ('a' + n % 26));
+            n /= 26;
+        } while (n > 0);
+        return sb.toString();
+    }
+
+    @Test
+    public void testMissingFileThrows() {
+        assertThrows(IOException.class, () -> new DictionaryLoader().load(tempDir.resolve("missing.txt")));
+    }
+}
@@ -30,4 +30,25 @@ public class DictionaryWordProviderTest {
             assertFalse(w.isEmpty());
         }
     }
+
+    @Test
+    public void testGetWordWithCriteria() throws IOException {
+        DictionaryWordProvider provider = new DictionaryWordProvider();
+        WordCriteria criteria = new WordCriteria(7, 9, 6, Difficulty.HARD);
+        assertTrue(provider.countWords(criteria) > 0);
+        for (int i = 0; i < 10; i++) {
+            String w = provider.getWord(criteria);
+            assertTrue(w.length() >= 7 && w.length() <= 9);
+            assertEquals(Difficulty.HARD, Difficulty.of(w));
+        }
+    }
+
+    @Test
+    public void testFrenchDictionaryKeepsAccentsAndFolds() throws IOException {
+        DictionaryWordProvider provider = new DictionaryWordProvider(DictionaryWordProvider.FRENCH_RESOURCE);
+        int ete = provider.getWords().indexOf("ÉTÉ");
+        assertTrue(ete >= 0, "Accented words should be loaded");
+        assertEquals("ETE", provider.getFoldedWord(ete));
+        assertFalse(provider.getWords().contains("CŒUR"), "Ligatures cannot be folded");
+    }
 }
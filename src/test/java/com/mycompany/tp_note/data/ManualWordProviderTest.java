@@ -41,6 +41,11 @@ public class ManualWordProviderTest {
         public void displayAlreadyGuessed(char letter) {
             // Intentionally empty for stub
         }
+
+        @Override
+        public void displayInvalidLetter(char input) {
+            // Intentionally empty for stub
+        }
     }
 
     @Test
@@ -60,4 +65,16 @@ public class ManualWordProviderTest {
 
         assertEquals("", provider.getWord());
     }
+
+    @Test
+    public void testGetWordRejectsNonDictionaryWords() throws IOException {
+        StubUserInterface stubUI = new StubUserInterface();
+        ManualWordProvider provider = new ManualWordProvider(stubUI, new DictionaryWordProvider());
+
+        stubUI.setSecretWord("house");
+        assertEquals("house", provider.getWord());
+
+        stubUI.setSecretWord("QZXQZXQ");
+        assertEquals("", provider.getWord());
+    }
 }
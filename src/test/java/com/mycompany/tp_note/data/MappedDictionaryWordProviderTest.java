@@ -0,0 +1,103 @@
+package com.mycompany.tp_note.data;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MappedDictionaryWordProviderTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path compile(String text) throws IOException {
+        Path file = tempDir.resolve("dictionary.bin");
+        try (OutputStream out = Files.newOutputStream(file)) {
+            DictionaryCompiler.compile(new BufferedReader(new StringReader(text)), out);
+        }
+        return file;
+    }
+
+    @Test
+    public void testCompiledWordsAreValidatedAndUppercased() throws IOException {
+        MappedDictionaryWordProvider provider =
+                new MappedDictionaryWordProvider(compile("java\n  Pendu \n\nab1\nl'eau\nX\n"));
+
+        assertEquals(3, provider.getSize());
+        assertEquals("JAVA", provider.getWord(0));
+        assertEquals("PENDU", provider.getWord(1));
+        assertEquals("X", provider.getWord(2));
+        assertEquals(5, provider.getWordLength(1));
+    }
+
+    @Test
+    public void testAccentedWordsKeepTheirAccents() throws IOException {
+        MappedDictionaryWordProvider provider =
+                new MappedDictionaryWordProvider(compile("été\nÉTÉ\ncœur\nĀBC\nfenêtre\n"));
+
+        assertEquals(2, provider.getSize());
+        assertEquals("ÉTÉ", provider.getWord(0));
+        assertEquals("FENÊTRE", provider.getWord(1));
+        assertEquals(7, provider.getWordLength(1));
+    }
+
+    @Test
+    public void testFrenchListCompilesToTheSameWords() throws IOException {
+        DictionaryWordProvider text = new DictionaryWordProvider(DictionaryWordProvider.FRENCH_RESOURCE);
+        Path file = tempDir.resolve("fr.bin");
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                getClass().getResourceAsStream(DictionaryWordProvider.FRENCH_RESOURCE), StandardCharsets.UTF_8));
+                OutputStream out = Files.newOutputStream(file)) {
+            DictionaryCompiler.compile(reader, out);
+        }
+        MappedDictionaryWordProvider mapped = new MappedDictionaryWordProvider(file);
+
+        assertEquals(text.getSize(), mapped.getSize());
+        for (int i = 0; i < text.getSize(); i++) {
+            assertEquals(text.getWord(i), mapped.getWord(i));
+        }
+    }
+
+    @Test
+    public void testGetWordReturnsDictionaryWord() throws IOException {
+        MappedDictionaryWordProvider provider = new MappedDictionaryWordProvider(compile("ONE\nTWO\n"));
+        for (int i = 0; i < 10; i++) {
+            String w = provider.getWord();
+            assertTrue(w.equals("ONE") || w.equals("TWO"));
+        }
+    }
+
+    @Test
+    public void testIndexOutOfRange() throws IOException {
+        MappedDictionaryWordProvider provider = new MappedDictionaryWordProvider(compile("ONE\n"));
+        assertThrows(IndexOutOfBoundsException.class, () -> provider.getWord(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> provider.getWordLength(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> provider.getWordLength(-1));
+    }
+
+    @Test
+    public void testEmptyOrInvalidFileRejected() throws IOException {
+        Path empty = compile("123\n");
+        assertThrows(IOException.class, () -> new MappedDictionaryWordProvider(empty));
+
+        Path garbage = tempDir.resolve("garbage.bin");
+        Files.write(garbage, new byte[] { 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16 });
+        assertThrows(IOException.class, () -> new MappedDictionaryWordProvider(garbage));
+    }
+
+    @Test
+    public void testBuildArtifactMatchesTextDictionary() throws IOException {
+        MappedDictionaryWordProvider mapped = new MappedDictionaryWordProvider();
+        DictionaryWordProvider text = new DictionaryWordProvider();
+        assertEquals(text.getSize(), mapped.getSize());
+    }
+}
@@ -0,0 +1,84 @@
+package com.mycompany.tp_note.data;
+
+import com.mycompany.tp_note.engine.HangmanGame;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.BitSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PatternIndexTest {
+
+    private static final List<String> WORDS = List.of("APPLE", "ANKLE", "AISLE", "ADDLE", "TABLE", "APPLY", "ETE");
+
+    private static int letters(String s) {
+        int mask = 0;
+        for (char c : s.toCharArray()) {
+            mask |= 1 << (c - 'A');
+        }
+        return mask;
+    }
+
+    @Test
+    public void testMatchRevealedPositions() {
+        PatternIndex index = new PatternIndex(WORDS);
+        BitSet ids = index.match("A _ _ L E", 0);
+        assertEquals(List.of("APPLE", "ANKLE", "AISLE", "ADDLE"), index.words(ids));
+    }
+
+    @Test
+    public void testWrongLettersExcluded() {
+        PatternIndex index = new PatternIndex(WORDS);
+        BitSet ids = index.match("A__LE", letters("PS"));
+        assertEquals(List.of("ANKLE", "ADDLE"), index.words(ids));
+    }
+
+    @Test
+    public void testRevealedLetterCannotHideElsewhere() {
+        PatternIndex index = new PatternIndex(WORDS);
+        // D is revealed once, so ADDLE (two Ds) no longer fits
+        BitSet ids = index.match("A D _ L E", 0);
+        assertTrue(index.words(ids).isEmpty());
+        assertEquals(List.of("ADDLE"), index.words(index.match("ADDLE", 0)));
+    }
+
+    @Test
+    public void testAllocationFreeVariantCounts() {
+        PatternIndex index = new PatternIndex(WORDS);
+        long[] result = new long[1];
+        assertEquals(6, index.matchInto("_____", 0, result));
+        assertEquals(0, index.matchInto("__________", 0, result));
+        assertEquals(1, index.matchInto("É _ É", 0, result));
+    }
+
+    @Test
+    public void testMatchGameState() {
+        PatternIndex index = new PatternIndex(WORDS);
+        HangmanGame game = new HangmanGame("ANKLE", 7);
+        game.guessLetter('A');
+        game.guessLetter('E');
+        game.guessLetter('P');
+        assertEquals(List.of("ANKLE", "AISLE", "ADDLE"), index.words(index.match(game.getState())));
+    }
+
+    @Test
+    public void testInvalidPattern() {
+        PatternIndex index = new PatternIndex(WORDS);
+        assertThrows(IllegalArgumentException.class, () -> index.match("A1", 0));
+    }
+
+    @Test
+    public void testDictionaryPatternIndexContainsSecretWord() throws IOException {
+        DictionaryWordProvider dictionary = new DictionaryWordProvider();
+        PatternIndex index = dictionary.getPatternIndex();
+        assertSame(index, dictionary.getPatternIndex());
+
+        int id = dictionary.getWords().indexOf("HOUSE");
+        HangmanGame game = new HangmanGame("HOUSE", 7);
+        game.guessLetter('O');
+        game.guessLetter('Z');
+        assertTrue(index.match(game.getState()).get(id));
+    }
+}
@@ -0,0 +1,125 @@
+package com.mycompany.tp_note.data;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PrefetchingWordProviderTest {
+
+    /** Returns W0, W1, ... and fails after {@code limit} words. */
+    private static class CountingProvider implements WordProvider {
+        private final AtomicInteger next = new AtomicInteger();
+        private final int limit;
+
+        CountingProvider(int limit) {
+            this.limit = limit;
+        }
+
+        @Override
+        public String getWord() throws IOException {
+            int n = next.getAndIncrement();
+            if (n >= limit) {
+                throw new IOException("exhausted");
+            }
+            return "W" + n;
+        }
+    }
+
+    @Test
+    public void testDefaultBatchAndAsync() throws IOException {
+        WordProvider provider = new CountingProvider(10);
+        assertEquals(List.of("W0", "W1", "W2"), provider.getWords(3));
+        assertEquals("W3", provider.getWordAsync(Runnable::run).toCompletableFuture().join());
+        assertThrows(IllegalArgumentException.class, () -> provider.getWords(0));
+    }
+
+    @Test
+    public void testDefaultAsyncReportsFailure() {
+        WordProvider provider = new CountingProvider(0);
+        CompletionException e = assertThrows(CompletionException.class,
+                () -> provider.getWordAsync(Runnable::run).toCompletableFuture().join());
+        assertInstanceOf(IOException.class, e.getCause());
+    }
+
+    @Test
+    public void testPrefetchedWordsServedInOrder() throws IOException {
+        try (PrefetchingWordProvider provider = new PrefetchingWordProvider(new CountingProvider(100), 4)) {
+            assertEquals("W0", provider.getWord());
+            assertEquals(List.of("W1", "W2", "W3"), provider.getWords(3));
+            assertEquals("W4", provider.getWordAsync(Runnable::run).toCompletableFuture().join());
+        }
+    }
+
+    @Test
+    public void testBufferFillsInBackground() throws InterruptedException {
+        try (PrefetchingWordProvider provider = new PrefetchingWordProvider(new CountingProvider(100), 5)) {
+            long deadline = System.currentTimeMillis() + 5_000;
+            while (provider.getBufferedCount() < 5 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals(5, provider.getBufferedCount());
+        }
+    }
+
+    @Test
+    public void testFailureReportedAfterBufferedWords() throws IOException {
+        try (PrefetchingWordProvider provider = new PrefetchingWordProvider(new CountingProvider(2), 4)) {
+            assertEquals("W0", provider.getWord());
+            assertEquals("W1", provider.getWord());
+            assertThrows(IOException.class, provider::getWord);
+            assertThrows(IOException.class, provider::getWord);
+        }
+    }
+
+    @Test
+    public void testBatchKeepsWordsDrawnBeforeFailure() throws IOException {
+        try (PrefetchingWordProvider provider = new PrefetchingWordProvider(new CountingProvider(2), 4)) {
+            assertEquals(List.of("W0", "W1"), provider.getWords(5));
+            assertThrows(IOException.class, () -> provider.getWords(1));
+        }
+    }
+
+    @Test
+    public void testRuntimeFailureReportedToWaitingCallers() {
+        WordProvider broken = () -> {
+            throw new IllegalStateException("broken");
+        };
+        try (PrefetchingWordProvider provider = new PrefetchingWordProvider(broken, 2)) {
+            IOException e = assertThrows(IOException.class, provider::getWord);
+            assertInstanceOf(IllegalStateException.class, e.getCause());
+            assertThrows(IOException.class, () -> provider.getWords(2));
+        }
+    }
+
+    @Test
+    public void testCloseReleasesWaitingCallers() throws Exception {
+        WordProvider never = () -> {
+            try {
+                Thread.sleep(60_000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            throw new IOException("interrupted");
+        };
+        PrefetchingWordProvider provider = new PrefetchingWordProvider(never, 1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            CompletableFuture<String> waiting = provider.getWordAsync(executor).toCompletableFuture();
+            provider.close();
+            ExecutionException e = assertThrows(ExecutionException.class, () -> waiting.get(10, TimeUnit.SECONDS));
+            assertInstanceOf(IOException.class, e.getCause());
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
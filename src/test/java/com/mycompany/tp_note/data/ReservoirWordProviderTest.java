@@ -0,0 +1,84 @@
+package com.mycompany.tp_note.data;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ReservoirWordProviderTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path writeList(String... lines) throws IOException {
+        Path file = tempDir.resolve("words.txt");
+        Files.write(file, List.of(lines));
+        return file;
+    }
+
+    @Test
+    public void testGetWordSkipsInvalidLines() throws IOException {
+        ReservoirWordProvider provider = new ReservoirWordProvider(writeList("", "123", "java", "a-b"));
+        for (int i = 0; i < 5; i++) {
+            assertEquals("JAVA", provider.getWord());
+        }
+    }
+
+    @Test
+    public void testGetWordsReturnsDistinctEntries() throws IOException {
+        ReservoirWordProvider provider = new ReservoirWordProvider(writeList("A", "B", "C", "D", "E", "F"));
+        List<String> words = provider.getWords(4);
+        assertEquals(4, words.size());
+        assertEquals(4, new HashSet<>(words).size());
+    }
+
+    @Test
+    public void testGetWordsCappedByListSize() throws IOException {
+        ReservoirWordProvider provider = new ReservoirWordProvider(writeList("ONE", "TWO"));
+        assertEquals(Set.of("ONE", "TWO"), new HashSet<>(provider.getWords(10)));
+    }
+
+    @Test
+    public void testLargeDrawOnShortListAllocatesWhatItHolds() throws IOException {
+        ReservoirWordProvider provider = new ReservoirWordProvider(writeList("ONE", "TWO"));
+        // a reservoir of k slots would not fit in the heap
+        assertEquals(Set.of("ONE", "TWO"), new HashSet<>(provider.getWords(Integer.MAX_VALUE - 8)));
+    }
+
+    @Test
+    public void testReservoirGrowsUpToK() throws IOException {
+        String[] lines = new String[40];
+        for (int i = 0; i < lines.length; i++) {
+            lines[i] = "W" + (char) ('A' + i / 26) + (char) ('A' + i % 26);
+        }
+        ReservoirWordProvider provider = new ReservoirWordProvider(writeList(lines));
+        List<String> words = provider.getWords(30);
+        assertEquals(30, words.size());
+        assertEquals(30, new HashSet<>(words).size());
+        assertTrue(Set.of(lines).containsAll(words));
+    }
+
+    @Test
+    public void testEveryWordCanBeDrawn() throws IOException {
+        ReservoirWordProvider provider = new ReservoirWordProvider(writeList("A", "B", "C"));
+        Set<String> drawn = new HashSet<>();
+        for (int i = 0; i < 200 && drawn.size() < 3; i++) {
+            drawn.add(provider.getWord());
+        }
+        assertEquals(Set.of("A", "B", "C"), drawn);
+    }
+
+    @Test
+    public void testEmptyListThrows() throws IOException {
+        ReservoirWordProvider provider = new ReservoirWordProvider(writeList("42"));
+        assertThrows(IOException.class, provider::getWord);
+        assertThrows(IllegalArgumentException.class, () -> provider.getWords(0));
+    }
+}
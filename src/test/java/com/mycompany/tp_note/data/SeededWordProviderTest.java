@@ -0,0 +1,50 @@
+package com.mycompany.tp_note.data;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SeededWordProviderTest {
+
+    private static List<String> draw(SeededWordProvider provider, int n) {
+        List<String> words = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            words.add(provider.getWord());
+        }
+        return words;
+    }
+
+    @Test
+    public void testSameSeedSameWords() throws IOException {
+        DictionaryWordProvider dictionary = new DictionaryWordProvider();
+        assertEquals(draw(new SeededWordProvider(dictionary, 42), 50),
+                draw(new SeededWordProvider(dictionary, 42), 50));
+        assertNotEquals(draw(new SeededWordProvider(dictionary, 42), 50),
+                draw(new SeededWordProvider(dictionary, 43), 50));
+    }
+
+    @Test
+    public void testSplitsAreReproducible() throws IOException {
+        DictionaryWordProvider dictionary = new DictionaryWordProvider();
+        SeededWordProvider a = new SeededWordProvider(dictionary, 7);
+        SeededWordProvider b = new SeededWordProvider(dictionary, 7);
+        SeededWordProvider workerA = a.split();
+        SeededWordProvider workerB = b.split();
+        assertEquals(draw(workerA, 20), draw(workerB, 20));
+        assertEquals(draw(a, 20), draw(b, 20));
+    }
+
+    @Test
+    public void testSeededCriteriaAndReservoirDraws() throws IOException {
+        DictionaryWordProvider dictionary = new DictionaryWordProvider();
+        WordCriteria criteria = WordCriteria.length(5, 6);
+        assertEquals(dictionary.getWord(criteria, new SplittableRandom(3)),
+                dictionary.getWord(criteria, new SplittableRandom(3)));
+        assertEquals(dictionary.getWord(new SplittableRandom(3)), dictionary.getWord(new SplittableRandom(3)));
+    }
+}
@@ -0,0 +1,83 @@
+package com.mycompany.tp_note.data;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SharedDictionaryTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testGetInstanceIsShared() throws IOException {
+        SharedDictionary first = SharedDictionary.getInstance();
+        assertSame(first, SharedDictionary.getInstance());
+        assertTrue(first.current().getSize() > 0);
+    }
+
+    @Test
+    public void testReloadPublishesNewWords() throws IOException {
+        Path file = tempDir.resolve("words.txt");
+        Files.write(file, List.of("OLD"));
+        try (SharedDictionary shared = new SharedDictionary(new DictionaryWordProvider(file))) {
+            assertEquals("OLD", shared.getWord());
+
+            Files.write(file, List.of("NEW"));
+            shared.reload(file);
+            assertEquals("NEW", shared.getWord());
+        }
+    }
+
+    @Test
+    public void testFailedReloadKeepsPreviousWords() throws IOException {
+        Path file = tempDir.resolve("words.txt");
+        Files.write(file, List.of("OLD"));
+        try (SharedDictionary shared = new SharedDictionary(new DictionaryWordProvider(file))) {
+            Files.write(file, List.of("123"));
+            assertThrows(IOException.class, () -> shared.reload(file));
+            assertEquals("OLD", shared.getWord());
+        }
+    }
+
+    @Test
+    public void testWatcherReloadsOnChange() throws Exception {
+        Path file = tempDir.resolve("words.txt");
+        Files.write(file, List.of("OLD"));
+        try (SharedDictionary shared = new SharedDictionary(new DictionaryWordProvider(file))) {
+            shared.watch(file);
+            Files.write(file, List.of("NEW"));
+
+            long deadline = System.currentTimeMillis() + 20_000;
+            while (!"NEW".equals(shared.getWord()) && System.currentTimeMillis() < deadline) {
+                Thread.sleep(50);
+            }
+            assertEquals("NEW", shared.getWord());
+        }
+    }
+
+    @Test
+    public void testWatcherReloadsAtomicReplacement() throws Exception {
+        Path file = tempDir.resolve("words.txt");
+        Files.write(file, List.of("OLD"));
+        try (SharedDictionary shared = new SharedDictionary(new DictionaryWordProvider(file))) {
+            shared.watch(file);
+            Path next = tempDir.resolve("words.txt.tmp");
+            Files.write(next, List.of("NEW"));
+            Files.move(next, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+
+            long deadline = System.currentTimeMillis() + 20_000;
+            while (!"NEW".equals(shared.getWord()) && System.currentTimeMillis() < deadline) {
+                Thread.sleep(50);
+            }
+            assertEquals("NEW", shared.getWord());
+        }
+    }
+}
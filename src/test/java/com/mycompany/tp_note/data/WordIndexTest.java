@@ -0,0 +1,99 @@
+package com.mycompany.tp_note.data;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class WordIndexTest {
+
+    private static final List<String> WORDS = List.of("ETE", "JAZZ", "TRAIN", "JUKEBOX", "ORIENTAL", "SATIRE");
+
+    @Test
+    public void testDifficultyRating() {
+        assertEquals(Difficulty.EASY, Difficulty.of("SATIRE"));
+        assertEquals(Difficulty.MEDIUM, Difficulty.of("ETE"));
+        assertEquals(Difficulty.HARD, Difficulty.of("JUKEBOX"));
+    }
+
+    @Test
+    public void testCountByLength() {
+        WordIndex index = new WordIndex(WORDS);
+        assertEquals(2, index.count(WordCriteria.length(5, 6)));
+        assertEquals(6, index.count(WordCriteria.length(1, 100)));
+        assertEquals(0, index.count(WordCriteria.length(20, 30)));
+    }
+
+    @Test
+    public void testCombinedCriteria() {
+        WordIndex index = new WordIndex(WORDS);
+        WordCriteria criteria = new WordCriteria(6, 9, 6, Difficulty.EASY);
+        assertEquals(2, index.count(criteria));
+
+        Random random = new Random(1);
+        for (int i = 0; i < 20; i++) {
+            String w = index.getWord(criteria, random);
+            assertTrue(w.equals("ORIENTAL") || w.equals("SATIRE"));
+        }
+    }
+
+    @Test
+    public void testDistinctLettersAcrossLengthsReachesEveryMatch() {
+        WordIndex index = new WordIndex(WORDS);
+        WordCriteria criteria = new WordCriteria(3, 100, 5, null);
+        assertEquals(4, index.count(criteria));
+
+        Set<String> seen = new HashSet<>();
+        Random random = new Random(7);
+        for (int i = 0; i < 200; i++) {
+            seen.add(index.getWord(criteria, random));
+        }
+        assertEquals(Set.of("TRAIN", "JUKEBOX", "ORIENTAL", "SATIRE"), seen);
+        assertEquals(0, index.count(new WordCriteria(1, 100, 27, null)));
+    }
+
+    @Test
+    public void testEveryCriteriaMatchesLinearFilter() {
+        WordIndex index = new WordIndex(WORDS);
+        Random random = new Random(3);
+        for (Difficulty difficulty : new Difficulty[] {null, Difficulty.EASY, Difficulty.MEDIUM, Difficulty.HARD}) {
+            for (int min = 1; min <= 9; min++) {
+                for (int max = min; max <= 9; max++) {
+                    for (int distinct = 0; distinct <= 8; distinct++) {
+                        WordCriteria criteria = new WordCriteria(min, max, distinct, difficulty);
+                        Set<String> expected = new HashSet<>();
+                        for (String word : WORDS) {
+                            if (criteria.matches(word.length(), Integer.bitCount(Difficulty.letterMask(word)),
+                                    Difficulty.of(word))) {
+                                expected.add(word);
+                            }
+                        }
+                        assertEquals(expected.size(), index.count(criteria), criteria.toString());
+                        Set<String> seen = new HashSet<>();
+                        for (int i = 0; i < 10 * expected.size(); i++) {
+                            seen.add(index.getWord(criteria, random));
+                        }
+                        assertEquals(expected, seen, criteria.toString());
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testNoMatchThrows() {
+        WordIndex index = new WordIndex(WORDS);
+        WordCriteria criteria = new WordCriteria(3, 3, 3, null);
+        assertThrows(IllegalStateException.class, () -> index.getWord(criteria, new Random()));
+    }
+
+    @Test
+    public void testInvalidCriteriaRejected() {
+        assertThrows(IllegalArgumentException.class, () -> WordCriteria.length(5, 4));
+        assertThrows(IllegalArgumentException.class, () -> new WordCriteria(1, 2, -1, null));
+    }
+}
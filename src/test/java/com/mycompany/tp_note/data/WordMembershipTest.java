@@ -0,0 +1,40 @@
+package com.mycompany.tp_note.data;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class WordMembershipTest {
+
+    @Test
+    public void testContainsIgnoresCaseAndAccents() {
+        WordMembership membership = new WordMembership(List.of("ETE", "GARCON", "JAVA"));
+        assertTrue(membership.contains("ETE"));
+        assertTrue(membership.contains("été"));
+        assertTrue(membership.contains("Garçon"));
+        assertTrue(membership.contains("java"));
+    }
+
+    @Test
+    public void testRejectsUnknownAndInvalidWords() {
+        WordMembership membership = new WordMembership(List.of("ETE", "JAVA"));
+        assertFalse(membership.contains("JAV"));
+        assertFalse(membership.contains("JAVAS"));
+        assertFalse(membership.contains("PENDU"));
+        assertFalse(membership.contains(""));
+        assertFalse(membership.contains(null));
+        assertFalse(membership.contains("JA-VA"));
+    }
+
+    @Test
+    public void testEveryDictionaryWordFound() throws IOException {
+        DictionaryWordProvider dictionary = new DictionaryWordProvider();
+        for (String word : dictionary.getWords()) {
+            assertTrue(dictionary.contains(word), word);
+        }
+        assertFalse(dictionary.contains("QZXQZXQ"));
+    }
+}
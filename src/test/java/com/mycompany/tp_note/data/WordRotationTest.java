@@ -0,0 +1,92 @@
+package com.mycompany.tp_note.data;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.BitSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class WordRotationTest {
+
+    /** Minimal in-memory dictionary for tests. */
+    private static IndexedWordProvider words(int size) {
+        return new IndexedWordProvider() {
+            @Override
+            public int getSize() {
+                return size;
+            }
+
+            @Override
+            public String getWord(int index) {
+                return "W" + index;
+            }
+
+            @Override
+            public String getWord() {
+                return getWord(0);
+            }
+        };
+    }
+
+    @Test
+    public void testPermutationIsBijective() {
+        for (int size : new int[] { 1, 2, 3, 7, 100, 1000, 45304 }) {
+            IndexPermutation permutation = new IndexPermutation(size, 42);
+            BitSet seen = new BitSet(size);
+            for (int i = 0; i < size; i++) {
+                int v = permutation.apply(i);
+                assertTrue(v >= 0 && v < size);
+                assertFalse(seen.get(v), "Value repeated for size " + size);
+                seen.set(v);
+            }
+        }
+    }
+
+    @Test
+    public void testDifferentKeysGiveDifferentOrders() {
+        IndexPermutation a = new IndexPermutation(1000, 1);
+        IndexPermutation b = new IndexPermutation(1000, 2);
+        int same = 0;
+        for (int i = 0; i < 1000; i++) {
+            if (a.apply(i) == b.apply(i)) {
+                same++;
+            }
+        }
+        assertTrue(same < 50);
+    }
+
+    @Test
+    public void testEveryWordOncePerCycle() {
+        WordRotation rotation = new WordRotation(words(500), 7);
+        for (int cycle = 0; cycle < 2; cycle++) {
+            BitSet seen = new BitSet();
+            for (int i = 0; i < 500; i++) {
+                int index = rotation.nextIndex();
+                assertFalse(seen.get(index));
+                seen.set(index);
+            }
+        }
+        assertEquals(1000, rotation.getCursor());
+    }
+
+    @Test
+    public void testResumeFromSeedAndCursor() {
+        WordRotation original = new WordRotation(words(300), 99);
+        for (int i = 0; i < 120; i++) {
+            original.getWord();
+        }
+        WordRotation resumed = new WordRotation(words(300), original.getSeed(), original.getCursor());
+        for (int i = 0; i < 300; i++) {
+            assertEquals(original.getWord(), resumed.getWord());
+        }
+    }
+
+    @Test
+    public void testWithDictionary() throws IOException {
+        DictionaryWordProvider dictionary = new DictionaryWordProvider();
+        WordRotation rotation = new WordRotation(dictionary, 3);
+        String word = rotation.getWord();
+        assertTrue(dictionary.getWords().contains(word));
+    }
+}
@@ -0,0 +1,90 @@
+package com.mycompany.tp_note.engine;
+
+import com.mycompany.tp_note.data.DictionaryLoader;
+import com.mycompany.tp_note.data.DictionaryWordProvider;
+import com.mycompany.tp_note.engine.GameState.Status;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EvilHangmanGameTest {
+
+    private static DictionaryWordProvider dictionary(String words) throws IOException {
+        return new DictionaryWordProvider(new DictionaryLoader()
+                .load(new ByteArrayInputStream(words.getBytes(StandardCharsets.UTF_8))));
+    }
+
+    @Test
+    void testKeepsLargestFamily() throws IOException {
+        EvilHangmanGame game = new EvilHangmanGame(dictionary("papa\nmama\njava\ncode\ntata\nnote\nchat\n"), 4, 5);
+        assertEquals(7, game.getCandidateCount());
+
+        game.guessLetter('A');
+        // _A_A (4 words) beats no A (2 words) and __A_ (1 word)
+        assertEquals("_ A _ A", game.getState().getMaskedWord());
+        assertEquals(4, game.getCandidateCount());
+
+        game.guessLetter('P');
+        game.guessLetter('T');
+        assertEquals(2, game.getState().getErrorsCount());
+        assertEquals(2, game.getCandidateCount());
+
+        // MAMA or JAVA: equal families, the miss reveals less
+        game.guessLetter('M');
+        assertEquals(3, game.getState().getErrorsCount());
+        assertEquals("JAVA", game.getState().getSecretWord());
+
+        game.guessLetter('J');
+        game.guessLetter('V');
+        assertEquals(Status.WON, game.getState().getCurrentStatus());
+    }
+
+    @Test
+    void testSecretMovesKeepDisplayedProgress() throws IOException {
+        EvilHangmanGame game = new EvilHangmanGame(dictionary("été\nées\nbas\n"), 3, 3);
+        game.guessLetter('B');
+        game.guessLetter('e');
+        GameState state = game.getState();
+        assertEquals(1, state.getErrorsCount());
+        assertTrue(state.isGuessed('B'));
+        assertEquals('É', state.getMaskedWord().charAt(0));
+        game.guessLetter('e');
+        assertEquals(1, game.getState().getErrorsCount());
+    }
+
+    @Test
+    void testHeldStateFollowsMovedSecret() throws IOException {
+        EvilHangmanGame game = new EvilHangmanGame(dictionary("papa\nmama\njava\ntata\n"), 4, 5);
+        GameState held = game.getState();
+        game.guessLetter('A');
+        game.guessLetter('P');
+        game.guessLetter('T');
+        game.guessLetter('M');
+        assertSame(held, game.getState());
+        assertEquals("JAVA", held.getSecretWord());
+        assertEquals("_ A _ A", held.getMaskedWord());
+        assertEquals(1L << 2, held.positionMask('V'));
+        assertEquals(3, held.getErrorsCount());
+    }
+
+    @Test
+    void testControllerPlaysEvilGameUnchanged() throws IOException {
+        EvilHangmanGame game = new EvilHangmanGame(dictionary("papa\nmama\njava\ntata\n"), 4, 2);
+        GameControllerTest.MockUI ui = new GameControllerTest.MockUI();
+        ui.setInputs("A", "P", "T");
+        new GameController(game, ui).startGame();
+        assertEquals(Status.LOST, game.getState().getCurrentStatus());
+        assertTrue(ui.gameEnded);
+    }
+
+    @Test
+    void testInvalidLength() throws IOException {
+        DictionaryWordProvider words = dictionary("java\n");
+        assertThrows(IllegalArgumentException.class, () -> new EvilHangmanGame(words, 5, 5));
+        assertThrows(IllegalArgumentException.class, () -> new EvilHangmanGame(words, 0, 5));
+    }
+}
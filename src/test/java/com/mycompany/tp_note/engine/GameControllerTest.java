@@ -1,5 +1,6 @@
 package com.mycompany.tp_note.engine;
 
+import com.mycompany.tp_note.UI.GameView;
 import com.mycompany.tp_note.UI.UserInterface;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -67,12 +68,53 @@ class GameControllerTest {
         assertEquals(GameState.Status.WON, game.getState().getCurrentStatus());
     }
 
+    @Test
+    void testPushMode() {
+        controller.begin();
+        assertTrue(controller.play('T'));
+        assertTrue(controller.play('T'));
+        assertTrue(mockUI.warningDisplayed);
+        assertTrue(controller.play('E'));
+        assertFalse(mockUI.gameEnded);
+        assertFalse(controller.play('S'));
+        assertTrue(mockUI.gameEnded);
+        assertFalse(controller.play('X'));
+        assertEquals(0, game.getState().getErrorsCount());
+    }
+
+    @Test
+    void testRepeatAndInvalidInputAreAnswered() {
+        controller.begin();
+        controller.play('T');
+        assertFalse(mockUI.warningDisplayed);
+        controller.play('t');
+        assertTrue(mockUI.warningDisplayed);
+        assertFalse(mockUI.invalidDisplayed);
+
+        assertTrue(controller.play('1'));
+        assertTrue(mockUI.invalidDisplayed);
+        assertEquals(0, game.getState().getErrorsCount());
+    }
+
+    @Test
+    void testDisplayOnlyViewIsPushMode() {
+        GameView view = mockUI;
+        GameController push = new GameController(game, view);
+        assertThrows(IllegalStateException.class, push::startGame);
+        push.begin();
+        for (char c : "TES".toCharArray()) {
+            push.play(c);
+        }
+        assertTrue(mockUI.gameEnded);
+    }
+
     // simple Mock for UI
     static class MockUI implements UserInterface {
         String[] inputs = {};
         int inputIndex = 0;
         boolean gameEnded = false;
         boolean warningDisplayed = false;
+        boolean invalidDisplayed = false;
 
         public void setInputs(String... inputs) {
             this.inputs = inputs;
@@ -106,5 +148,10 @@ class GameControllerTest {
         public void displayAlreadyGuessed(char letter) {
             warningDisplayed = true;
         }
+
+        @Override
+        public void displayInvalidLetter(char input) {
+            invalidDisplayed = true;
+        }
     }
 }
@@ -0,0 +1,152 @@
+package com.mycompany.tp_note.engine;
+
+import com.mycompany.tp_note.engine.GameState.Status;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameLogTest {
+
+    private static final List<String> WORDS = List.of("JAVA", "PENDU", "ZEBRE");
+
+    private static int letterMask(String word) {
+        int mask = 0;
+        for (char c : word.toCharArray()) {
+            mask |= 1 << (c - 'A');
+        }
+        return mask;
+    }
+
+    @Test
+    void testPackedLettersRoundTrip() {
+        GameLog log = new GameLog(7, 7);
+        for (char c = 'Z'; c >= 'A'; c--) {
+            log.append(c);
+        }
+        assertEquals(26, log.size());
+        for (int i = 0; i < 26; i++) {
+            assertEquals((char) ('Z' - i), log.letterAt(i));
+        }
+        assertThrows(IllegalStateException.class, () -> log.append('A'));
+        assertThrows(IllegalArgumentException.class, () -> new GameLog(0, 7).append('é'));
+    }
+
+    @Test
+    void testEncodingIsCompact() {
+        GameLog log = new GameLog(123456, 6);
+        "ABCDEFGH".chars().forEach(c -> log.append((char) c));
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+        log.writeTo(buffer);
+        assertEquals(6 + 5, buffer.position());
+        assertEquals(log.encodedSize(), buffer.position());
+
+        buffer.flip();
+        GameLog decoded = GameLog.readFrom(buffer);
+        assertEquals(123456, decoded.getWordId());
+        assertEquals(6, decoded.getMaxErrors());
+        assertEquals(8, decoded.size());
+        assertEquals('H', decoded.letterAt(7));
+    }
+
+    @Test
+    void testEventSourcedGameRecordsAcceptedGuesses() {
+        GameLog log = new GameLog(0, 5);
+        HangmanGame game = new HangmanGame(WORDS::get, log);
+        game.guessLetter('a');
+        game.guessLetter('A'); // duplicate, not logged
+        game.guessLetter('1'); // invalid, not logged
+        game.guessLetter('z');
+        assertSame(log, game.getLog());
+        assertEquals(2, log.size());
+        assertEquals('A', log.letterAt(0));
+        assertEquals('Z', log.letterAt(1));
+    }
+
+    @Test
+    void testReplayAtAnyPoint() {
+        GameLog log = new GameLog(1, 3);
+        HangmanGame game = new HangmanGame(WORDS::get, log);
+        for (char c : "EXPNDU".toCharArray()) {
+            game.guessLetter(c);
+        }
+
+        GameState afterTwo = log.replay(WORDS::get, 2);
+        assertEquals("_ E _ _ _", afterTwo.getMaskedWord());
+        assertEquals(1, afterTwo.getErrorsCount());
+
+        GameState end = log.replay(WORDS::get);
+        assertEquals(Status.WON, end.getCurrentStatus());
+        assertEquals(game.getState().getMaskedWord(), end.getMaskedWord());
+    }
+
+    @Test
+    void testResumeFromLog() {
+        GameLog log = new GameLog(0, 5);
+        log.append('J');
+        log.append('Q');
+        HangmanGame game = new HangmanGame(WORDS::get, log);
+        assertEquals("J _ _ _", game.getState().getMaskedWord());
+        assertEquals(1, game.getState().getErrorsCount());
+        game.guessLetter('A');
+        assertEquals(3, log.size());
+    }
+
+    @Test
+    void testResumeRejectsUnknownWordId() {
+        GameLog log = new GameLog(9, 5);
+        assertThrows(IllegalArgumentException.class, () -> new HangmanGame(id -> null, log));
+    }
+
+    @Test
+    void testResumeSkipsOverriddenGuess() {
+        GameLog log = new GameLog(0, 5);
+        log.append('J');
+        HangmanGame game = new HangmanGame(WORDS::get, log) {
+            @Override
+            public void guessLetter(char letter) {
+                fail("Replay must not call an override");
+            }
+        };
+        assertEquals("J _ _ _", game.getState().getMaskedWord());
+    }
+
+    @Test
+    void testRepeatedLettersNeverCount() {
+        GameLog log = new GameLog(0, 2);
+        log.append('Q');
+        assertThrows(IllegalArgumentException.class, () -> log.append('Q'));
+        assertEquals(1, log.size());
+
+        // a corrupt log repeating Q (16 in bits 0-4 and 5-9): a second miss would lose the game
+        ByteBuffer buffer = ByteBuffer.allocate(16);
+        buffer.putInt(0).put((byte) 2).put((byte) 2).put((byte) 16).put((byte) 2);
+        buffer.flip();
+        assertThrows(IllegalArgumentException.class, () -> GameLog.readFrom(buffer.duplicate()));
+        long[] counts = GameLog.countOutcomes(buffer, id -> letterMask(WORDS.get(id)));
+        assertEquals(1, counts[Status.PLAYING.ordinal()]);
+    }
+
+    @Test
+    void testCountOutcomesMatchesFullReplay() {
+        ByteBuffer buffer = ByteBuffer.allocate(1024);
+        String[][] games = { { "JAVA", "AJV" }, { "PENDU", "QWXYZ" }, { "ZEBRE", "ZE" }, { "JAVA", "BCDEFGHIKLMNOP" } };
+        for (String[] g : games) {
+            GameLog log = new GameLog(WORDS.indexOf(g[0]), 5);
+            HangmanGame game = new HangmanGame(WORDS::get, log);
+            for (char c : g[1].toCharArray()) {
+                game.guessLetter(c);
+            }
+            log.writeTo(buffer);
+        }
+        buffer.flip();
+
+        long[] counts = GameLog.countOutcomes(buffer, id -> letterMask(WORDS.get(id)));
+        assertEquals(1, counts[Status.WON.ordinal()]);
+        assertEquals(2, counts[Status.LOST.ordinal()]);
+        assertEquals(1, counts[Status.PLAYING.ordinal()]);
+        assertFalse(buffer.hasRemaining());
+    }
+}
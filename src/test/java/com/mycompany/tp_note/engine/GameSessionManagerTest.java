@@ -0,0 +1,130 @@
+package com.mycompany.tp_note.engine;
+
+import com.mycompany.tp_note.engine.GameState.Status;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameSessionManagerTest {
+
+    @Test
+    void testCreateGuessAndSnapshot() throws IOException {
+        GameSessionManager manager = new GameSessionManager(() -> "JAVA");
+        long id = manager.createSession(5);
+        assertTrue(manager.contains(id));
+
+        assertEquals(Status.PLAYING, manager.guess(id, 'a'));
+        GameSnapshot snapshot = manager.snapshot(id);
+        assertEquals("_ A _ A", snapshot.maskedWord());
+        assertEquals(0, snapshot.errorsCount());
+        assertEquals(5, snapshot.maxErrors());
+
+        manager.guess(id, 'J');
+        assertEquals(Status.WON, manager.guess(id, 'V'));
+    }
+
+    @Test
+    void testGuessReadsStateAfterGuess() {
+        GameSessionManager manager = new GameSessionManager(() -> "JAVA");
+        long id = manager.createSession("JAVA", 5);
+        assertEquals("J _ _ _", manager.guess(id, 'J', GameState::getMaskedWord));
+        assertEquals(1, manager.guess(id, 'X', GameState::getErrorsCount));
+        assertThrows(IllegalArgumentException.class, () -> manager.guess(id + 1, 'A', GameState::getMaskedWord));
+    }
+
+    @Test
+    void testSessionLimitEvictsExpiredSessions() {
+        GameSessionManager manager = new GameSessionManager(() -> "JAVA", 2, Duration.ofHours(1), Duration.ZERO);
+        long playing = manager.createSession("JAVA", 5);
+        long ended = manager.createSession("A", 5);
+        assertEquals(Status.PLAYING, manager.guess(ended, 'B'));
+        assertThrows(IllegalStateException.class, () -> manager.createSession("JAVA", 5));
+
+        manager.guess(ended, 'A');
+        long next = manager.createSession("JAVA", 5);
+        assertFalse(manager.contains(ended));
+        assertTrue(manager.contains(playing));
+        assertTrue(manager.contains(next));
+        assertEquals(2, manager.size());
+
+        assertTrue(manager.remove(playing));
+        manager.createSession("JAVA", 5);
+        assertEquals(0, manager.evictExpired());
+    }
+
+    @Test
+    void testIdleSessionsExpire() {
+        GameSessionManager manager = new GameSessionManager(() -> "JAVA", 10, Duration.ZERO, Duration.ofHours(1));
+        long id = manager.createSession("JAVA", 5);
+        manager.createSession("A", 5);
+        manager.guess(manager.createSession("A", 5), 'A');
+        assertEquals(2, manager.evictExpired());
+        assertFalse(manager.contains(id));
+        assertEquals(1, manager.size());
+        assertThrows(IllegalArgumentException.class,
+                () -> new GameSessionManager(() -> "JAVA", 0, Duration.ZERO, Duration.ZERO));
+    }
+
+    @Test
+    void testUnknownAndRemovedSessions() {
+        GameSessionManager manager = new GameSessionManager(() -> "JAVA");
+        long id = manager.createSession("TEST", 5);
+        assertTrue(manager.remove(id));
+        assertFalse(manager.remove(id));
+        assertThrows(IllegalArgumentException.class, () -> manager.guess(id, 'T'));
+        assertThrows(IllegalArgumentException.class, () -> manager.snapshot(id));
+    }
+
+    @Test
+    void testConcurrentGuessesOnSameSessionCountEachLetterOnce() throws Exception {
+        GameSessionManager manager = new GameSessionManager(() -> "JAVA");
+        long id = manager.createSession("QQQQ", 26);
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                futures.add(pool.submit(() -> {
+                    for (char c = 'A'; c <= 'Z'; c++) {
+                        if (c != 'Q') {
+                            manager.guess(id, c);
+                        }
+                    }
+                }));
+            }
+            for (Future<?> f : futures) {
+                f.get();
+            }
+        } finally {
+            pool.shutdown();
+        }
+        assertEquals(25, manager.snapshot(id).errorsCount());
+        assertEquals(Status.PLAYING, manager.snapshot(id).status());
+    }
+
+    @Test
+    void testManySessionsInParallel() throws Exception {
+        GameSessionManager manager = new GameSessionManager(() -> "JAVA");
+        long[] ids = new long[10_000];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = manager.createSession(5);
+        }
+        Arrays.stream(ids).parallel().forEach(id -> {
+            manager.guess(id, 'J');
+            manager.guess(id, 'A');
+            manager.guess(id, 'V');
+        });
+        for (long id : ids) {
+            assertEquals(Status.WON, manager.snapshot(id).status());
+        }
+        assertEquals(ids.length, manager.size());
+    }
+}
@@ -1,6 +1,8 @@
 package com.mycompany.tp_note.engine;
 
 import org.junit.jupiter.api.Test;
+
+import java.util.Set;
 import static org.junit.jupiter.api.Assertions.*;
 
 class GameStateTest {
@@ -27,6 +29,34 @@ class GameStateTest {
         assertEquals("T E _ T", state.getMaskedWord());
     }
 
+    @Test
+    void testLongestWordRevealsLastPosition() {
+        String word = "A".repeat(GameState.MAX_WORD_LENGTH - 1) + "B";
+        GameState state = new GameState(word, 5);
+        assertEquals(1L << (GameState.MAX_WORD_LENGTH - 1), state.positionMask('B'));
+
+        state.addGuessedLetter('B');
+        assertTrue(state.getMaskedWord().endsWith("_ B"));
+        assertThrows(IllegalArgumentException.class, () -> new GameState(word + "C", 5));
+    }
+
+    @Test
+    void testMoveSecretRebuildsMasksInPlace() {
+        GameState state = new GameState("PAPA", 5);
+        state.addGuessedLetter('A');
+        state.addGuessedLetter('Z');
+        state.incrementErrors();
+
+        state.moveSecret("Mâtà", "MATA");
+        assertEquals("MÂTÀ", state.getSecretWord());
+        assertEquals("_ Â _ À", state.getMaskedWord());
+        assertEquals(0b1010L, state.positionMask('A'));
+        assertEquals(0L, state.positionMask('P'));
+        assertTrue(state.containsLetter('T'));
+        assertEquals(1, state.getErrorsCount());
+        assertThrows(IllegalArgumentException.class, () -> state.moveSecret("JAV", "JAV"));
+    }
+
     @Test
     void testIsWordGuessed() {
         GameState state = new GameState("HI", 5);
@@ -52,4 +82,89 @@ class GameStateTest {
         state.incrementErrors();
         assertEquals(1, state.getErrorsCount());
     }
+
+    @Test
+    void testGuessedMask() {
+        GameState state = new GameState("TEST", 5);
+        state.addGuessedLetter('A');
+        state.addGuessedLetter('C');
+        assertEquals(0b101, state.guessedMask());
+        assertTrue(state.isGuessed('A'));
+        assertFalse(state.isGuessed('B'));
+        assertEquals(Set.of('A', 'C'), state.getGuessedLetters());
+    }
+
+    @Test
+    void testLettersOutsideAlphabetStillTracked() {
+        GameState state = new GameState("STRAßE", 5);
+        state.addGuessedLetter('ß');
+        assertTrue(state.isGuessed('ß'));
+        assertEquals(0, state.guessedMask());
+        assertTrue(state.getGuessedLetters().contains('ß'));
+        assertEquals("_ _ _ _ ß _", state.getMaskedWord());
+    }
+
+    @Test
+    void testGuessedLettersCopyIsIndependent() {
+        GameState state = new GameState("TEST", 5);
+        state.getGuessedLetters().add('T');
+        assertFalse(state.isGuessed('T'));
+    }
+
+    @Test
+    void testLetterAndPositionMasks() {
+        GameState state = new GameState("JAVA", 5);
+        assertTrue(state.containsLetter('A'));
+        assertFalse(state.containsLetter('B'));
+        assertEquals((1 << ('J' - 'A')) | (1 << ('V' - 'A')) | 1, state.letterMask());
+        assertEquals(0b1010L, state.positionMask('A'));
+        assertEquals(0b0001L, state.positionMask('J'));
+        assertEquals(0L, state.positionMask('Z'));
+    }
+
+    @Test
+    void testRemainingLetterCount() {
+        GameState state = new GameState("JAVA", 5);
+        assertEquals(3, state.remainingLetterCount());
+        state.addGuessedLetter('A');
+        state.addGuessedLetter('Z');
+        assertEquals(2, state.remainingLetterCount());
+        state.addGuessedLetter('J');
+        state.addGuessedLetter('V');
+        assertEquals(0, state.remainingLetterCount());
+        assertTrue(state.isWordGuessed());
+    }
+
+    @Test
+    void testWordWithLettersOutsideAlphabet() {
+        GameState state = new GameState("SSß", 5);
+        state.addGuessedLetter('S');
+        assertFalse(state.isWordGuessed());
+        assertTrue(state.containsLetter('ß'));
+        state.addGuessedLetter('ß');
+        assertTrue(state.isWordGuessed());
+    }
+
+    @Test
+    void testMaskedViewIsLiveAndBufferCopy() {
+        GameState state = new GameState("JAVA", 5);
+        CharSequence view = state.maskedView();
+        assertEquals("_ _ _ _", view.toString());
+
+        state.addGuessedLetter('A');
+        assertEquals("_ A _ A", view.toString());
+        assertEquals('A', view.charAt(2));
+
+        char[] buffer = new char[10];
+        int n = state.writeMaskedWord(buffer, 1);
+        assertEquals(7, n);
+        assertEquals("_ A _ A", new String(buffer, 1, n));
+    }
+
+    @Test
+    void testMaskedWordKeepsAccents() {
+        GameState state = new GameState("ÉTÉ", 5);
+        state.addGuessedLetter('E');
+        assertEquals("É _ É", state.getMaskedWord());
+    }
 }
@@ -91,4 +91,68 @@ class HangmanGameTest {
         assertEquals(Status.WON, game.getState().getCurrentStatus());
         assertEquals(1, game.getState().getGuessedLetters().size());
     }
+
+    @Test
+    void testAccentedLettersMatchByFolding() {
+        HangmanGame game = new HangmanGame("ÉTÉ", 5);
+        game.guessLetter('e');
+        assertEquals("É _ É", game.getState().getMaskedWord());
+        game.guessLetter('T');
+        assertEquals(Status.WON, game.getState().getCurrentStatus());
+    }
+
+    @Test
+    void testAccentedGuessMatchesPlainLetter() {
+        HangmanGame game = new HangmanGame("GARCON", "GARCON", 5);
+        game.guessLetter('ç');
+        assertEquals("_ _ _ C _ _", game.getState().getMaskedWord());
+        assertEquals(0, game.getState().getErrorsCount());
+    }
+
+    @Test
+    void testListenerReceivesEvents() {
+        HangmanGame game = new HangmanGame("JAVA", 2);
+        StringBuilder events = new StringBuilder();
+        GameListener listener = new GameListener() {
+            @Override
+            public void onHit(char letter, long positions) {
+                events.append("hit ").append(letter).append(' ').append(positions).append(';');
+            }
+
+            @Override
+            public void onMiss(char letter, int errorsCount) {
+                events.append("miss ").append(letter).append(' ').append(errorsCount).append(';');
+            }
+
+            @Override
+            public void onDuplicate(char letter) {
+                events.append("dup ").append(letter).append(';');
+            }
+
+            @Override
+            public void onWon() {
+                events.append("won;");
+            }
+
+            @Override
+            public void onLost() {
+                events.append("lost;");
+            }
+        };
+        game.addListener(listener);
+
+        game.guessLetter('á');
+        game.guessLetter('a');
+        game.guessLetter('Z');
+        game.guessLetter('1');
+        game.guessLetter('J');
+        game.guessLetter('V');
+        assertEquals("hit A 10;dup a;miss Z 1;hit J 1;hit V 4;won;", events.toString());
+
+        game.removeListener(listener);
+        HangmanGame lost = new HangmanGame("JAVA", 1);
+        lost.addListener(listener);
+        lost.guessLetter('X');
+        assertEquals("hit A 10;dup a;miss Z 1;hit J 1;hit V 4;won;miss X 1;lost;", events.toString());
+    }
 }
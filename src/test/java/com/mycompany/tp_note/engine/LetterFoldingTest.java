@@ -0,0 +1,38 @@
+package com.mycompany.tp_note.engine;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LetterFoldingTest {
+
+    @Test
+    void testFoldAccentedLetters() {
+        assertEquals('E', LetterFolding.fold('é'));
+        assertEquals('E', LetterFolding.fold('É'));
+        assertEquals('E', LetterFolding.fold('ê'));
+        assertEquals('C', LetterFolding.fold('ç'));
+        assertEquals('A', LetterFolding.fold('à'));
+        assertEquals('I', LetterFolding.fold('ï'));
+        assertEquals('U', LetterFolding.fold('û'));
+        assertEquals('Z', LetterFolding.fold('z'));
+    }
+
+    @Test
+    void testFoldWord() {
+        assertEquals("CHATEAU", LetterFolding.fold("Château"));
+        assertEquals("GARCON", LetterFolding.fold("GARÇON"));
+    }
+
+    @Test
+    void testValidWords() {
+        assertTrue(LetterFolding.isValidWord("ÉTÉ"));
+        assertTrue(LetterFolding.isValidWord("java"));
+        assertFalse(LetterFolding.isValidWord(""));
+        assertFalse(LetterFolding.isValidWord("CŒUR"));
+        assertFalse(LetterFolding.isValidWord("L'EAU"));
+        assertFalse(LetterFolding.isValidWord("AB1"));
+        assertTrue(LetterFolding.isValidWord("A".repeat(GameState.MAX_WORD_LENGTH)));
+        assertFalse(LetterFolding.isValidWord("A".repeat(GameState.MAX_WORD_LENGTH + 1)));
+    }
+}
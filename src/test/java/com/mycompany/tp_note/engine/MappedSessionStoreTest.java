@@ -0,0 +1,94 @@
+package com.mycompany.tp_note.engine;
+
+import com.mycompany.tp_note.engine.GameState.Status;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.IntUnaryOperator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MappedSessionStoreTest {
+
+    private static final List<String> WORDS = List.of("JAVA", "PENDU");
+    private static final IntUnaryOperator MASKS = id -> new GameState(WORDS.get(id), 1).letterMask();
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testSessionsResumeAfterReopen() throws IOException {
+        Path path = tempDir.resolve("sessions.bin");
+        int playing;
+        int won;
+        int removed;
+        try (MappedSessionStore store = MappedSessionStore.open(path, 8, MASKS)) {
+            playing = store.create(1, 3);
+            won = store.create(0, 5);
+            removed = store.create(0, 5);
+            store.guess(playing, 'E');
+            store.guess(playing, 'Z');
+            for (char c : "JAV".toCharArray()) {
+                store.guess(won, c);
+            }
+            store.remove(removed);
+        }
+        assertEquals(MappedSessionStore.HEADER_BYTES + 8 * PackedSessionStore.RECORD_BYTES, Files.size(path));
+
+        try (MappedSessionStore store = MappedSessionStore.open(path, 100, MASKS)) {
+            assertEquals(8, store.capacity());
+            assertEquals(2, store.size());
+            assertFalse(store.contains(removed));
+            assertEquals(Status.WON, store.getStatus(won));
+            assertEquals(1, store.getErrorsCount(playing));
+            assertEquals("_ E _ _ _", store.toGameState(playing, "PENDU").getMaskedWord());
+
+            assertEquals(removed, store.create(1, 3));
+            store.guess(playing, 'P');
+            assertEquals(Status.PLAYING, store.getStatus(playing));
+        }
+    }
+
+    @Test
+    void testPeriodicSync() throws Exception {
+        try (MappedSessionStore store = MappedSessionStore.open(tempDir.resolve("s.bin"), 4, MASKS)) {
+            store.syncEvery(Duration.ofMillis(5));
+            assertThrows(IllegalStateException.class, () -> store.syncEvery(Duration.ofMillis(5)));
+            int id = store.create(0, 5);
+            store.guess(id, 'A');
+            Thread.sleep(20);
+            assertEquals(1, store.size());
+        }
+    }
+
+    @Test
+    void testRecordsAlignedWithinPages() {
+        assertEquals(0, MappedSessionStore.HEADER_BYTES % Long.BYTES);
+        assertEquals(0, PackedSessionStore.RECORD_BYTES % Long.BYTES);
+        assertEquals(0, 4096 % PackedSessionStore.RECORD_BYTES);
+    }
+
+    @Test
+    void testClosedStoreReleasesSessions() throws IOException {
+        MappedSessionStore store = MappedSessionStore.open(tempDir.resolve("c.bin"), 4, MASKS);
+        int id = store.create(0, 5);
+        store.close();
+        store.close();
+        store.sync();
+        assertFalse(store.contains(id));
+        assertThrows(IllegalStateException.class, () -> store.guess(id, 'A'));
+        assertThrows(IllegalStateException.class, () -> store.create(0, 5));
+    }
+
+    @Test
+    void testRejectsForeignFile() throws IOException {
+        Path garbage = tempDir.resolve("garbage.bin");
+        Files.write(garbage, new byte[] { 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16 });
+        assertThrows(IOException.class, () -> MappedSessionStore.open(garbage, 4, MASKS));
+    }
+}
@@ -0,0 +1,81 @@
+package com.mycompany.tp_note.engine;
+
+import com.mycompany.tp_note.engine.GameState.Status;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.function.IntUnaryOperator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PackedSessionStoreTest {
+
+    private static final List<String> WORDS = List.of("JAVA", "PENDU", "CAFÉ");
+    private static final IntUnaryOperator MASKS = id -> new GameState(WORDS.get(id), 1).letterMask();
+
+    @Test
+    void testGuessesFollowGameRules() {
+        PackedSessionStore store = new PackedSessionStore(4, MASKS);
+        int id = store.create(0, 2);
+
+        assertEquals(Status.PLAYING, store.guess(id, 'j'));
+        assertEquals(Status.PLAYING, store.guess(id, 'X'));
+        assertEquals(Status.PLAYING, store.guess(id, 'X'));
+        assertEquals(Status.PLAYING, store.guess(id, '1'));
+        assertEquals(1, store.getErrorsCount(id));
+        assertEquals(Status.PLAYING, store.guess(id, 'á'));
+        assertEquals(Status.WON, store.guess(id, 'V'));
+        assertEquals(Status.WON, store.guess(id, 'Q'));
+        assertEquals(1, store.getErrorsCount(id));
+
+        int lost = store.create(1, 2);
+        store.guess(lost, 'A');
+        assertEquals(Status.LOST, store.guess(lost, 'B'));
+    }
+
+    @Test
+    void testMatchesHangmanGame() {
+        PackedSessionStore store = new PackedSessionStore(4, MASKS);
+        int id = store.create(2, 6);
+        HangmanGame game = new HangmanGame("CAFÉ", 6);
+        for (char c : "ZEBCAF".toCharArray()) {
+            store.guess(id, c);
+            game.guessLetter(c);
+        }
+        GameState restored = store.toGameState(id, "CAFÉ");
+        GameState expected = game.getState();
+        assertEquals(expected.getMaskedWord(), restored.getMaskedWord());
+        assertEquals(expected.guessedMask(), store.getGuessedMask(id));
+        assertEquals(expected.getErrorsCount(), restored.getErrorsCount());
+        assertEquals(expected.getCurrentStatus(), restored.getCurrentStatus());
+    }
+
+    @Test
+    void testIdsAreReusedAndCapacityEnforced() {
+        PackedSessionStore store = new PackedSessionStore(2, MASKS);
+        int a = store.create(0, 5);
+        int b = store.create(1, 5);
+        assertThrows(IllegalStateException.class, () -> store.create(0, 5));
+
+        store.remove(a);
+        assertFalse(store.contains(a));
+        assertThrows(IllegalArgumentException.class, () -> store.guess(a, 'A'));
+        assertEquals(1, store.size());
+
+        int c = store.create(2, 3);
+        assertEquals(a, c);
+        assertEquals(2, store.getWordId(c));
+        assertEquals(3, store.getMaxErrors(c));
+        assertEquals(0, store.getGuessedMask(c));
+        assertEquals(1, store.getWordId(b));
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new PackedSessionStore(0, MASKS));
+        PackedSessionStore store = new PackedSessionStore(1, MASKS);
+        assertThrows(IllegalArgumentException.class, () -> store.create(0, 0));
+        assertThrows(IllegalArgumentException.class, () -> store.create(0, 128));
+        assertThrows(IllegalArgumentException.class, () -> store.getStatus(-1));
+    }
+}
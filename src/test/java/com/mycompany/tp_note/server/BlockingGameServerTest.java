@@ -0,0 +1,133 @@
+package com.mycompany.tp_note.server;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BlockingGameServerTest {
+
+    private BlockingGameServer server;
+    private int port;
+
+    private void start(BlockingGameServer created) throws IOException {
+        server = created;
+        port = server.start(new InetSocketAddress("localhost", 0));
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        server.close();
+    }
+
+    /** Blocking test client. */
+    private final class Client implements AutoCloseable {
+        private final Socket socket;
+        private final BufferedReader in;
+        private final PrintWriter out;
+
+        Client() throws IOException {
+            socket = new Socket("localhost", port);
+            socket.setSoTimeout(10_000);
+            in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            out = new PrintWriter(socket.getOutputStream(), true, StandardCharsets.UTF_8);
+        }
+
+        String send(String line) throws IOException {
+            out.print(line + "\r\n");
+            out.flush();
+            return in.readLine();
+        }
+
+        @Override
+        public void close() throws IOException {
+            socket.close();
+        }
+    }
+
+    @Test
+    public void testPlayWinningGame() throws IOException {
+        start(BlockingGameServer.withVirtualThreads(() -> "JAVA", 3));
+        try (Client client = new Client()) {
+            assertEquals("ERR no game, send NEW", client.send("STATE"));
+            assertEquals("STATE ____ 0 3 PLAYING -", client.send("NEW"));
+            assertEquals("STATE _A_A 0 3 PLAYING A", client.send("guess a"));
+            assertEquals("ALREADY A", client.send("GUESS A"));
+            assertEquals("STATE _A_A 1 3 PLAYING AZ", client.send("GUESS Z"));
+            assertEquals("STATE JA_A 1 3 PLAYING AJZ", client.send("GUESS J"));
+            assertEquals("END WON JAVA", client.send("GUESS V"));
+            assertEquals("ERR game over, send NEW", client.send("GUESS B"));
+            assertEquals("STATE JAVA 1 3 WON AJVZ", client.send("STATE"));
+            assertEquals("BYE", client.send("QUIT"));
+            assertNull(client.in.readLine());
+        }
+    }
+
+    @Test
+    public void testErrorsAndNewGameMidGame() throws IOException {
+        start(BlockingGameServer.withVirtualThreads(() -> "JAVA", 3));
+        try (Client client = new Client()) {
+            assertEquals("ERR unknown command", client.send("HELLO"));
+            assertEquals("ERR invalid max errors", client.send("NEW x"));
+            assertEquals("ERR Max errors must be at least 1.", client.send("NEW 0"));
+            assertEquals("STATE ____ 0 1 PLAYING -", client.send("NEW 1"));
+            assertEquals("ERR expected one letter", client.send("GUESS AB"));
+            assertEquals("STATE ____ 0 2 PLAYING -", client.send("NEW 2"));
+            assertEquals("STATE ____ 1 2 PLAYING X", client.send("GUESS X"));
+            assertEquals("END LOST JAVA", client.send("GUESS Y"));
+        }
+    }
+
+    @Test
+    public void testPlatformPoolQueuesSessions() throws Exception {
+        start(BlockingGameServer.withPlatformThreads(() -> "JAVA", 3, 1));
+        try (Client first = new Client(); Client second = new Client()) {
+            assertEquals("STATE ____ 0 3 PLAYING -", first.send("NEW"));
+            second.out.print("NEW\n");
+            second.out.flush();
+            assertFalse(second.in.ready());
+            assertEquals(2, server.getConnectionCount());
+            assertEquals("BYE", first.send("QUIT"));
+            assertEquals("STATE ____ 0 3 PLAYING -", second.in.readLine());
+        }
+    }
+
+    @Test
+    public void testManyConcurrentClients() throws Exception {
+        start(BlockingGameServer.withVirtualThreads(() -> "JAVA", 3));
+        int clients = 500;
+        try (ExecutorService pool = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Client> connected = new ArrayList<>();
+            for (int i = 0; i < clients; i++) {
+                connected.add(new Client());
+            }
+            List<Future<String>> results = new ArrayList<>();
+            for (Client client : connected) {
+                results.add(pool.submit(() -> {
+                    try (client) {
+                        client.send("NEW");
+                        client.send("GUESS J");
+                        client.send("GUESS A");
+                        return client.send("GUESS V");
+                    }
+                }));
+            }
+            for (Future<String> result : results) {
+                assertEquals("END WON JAVA", result.get());
+            }
+        }
+    }
+}
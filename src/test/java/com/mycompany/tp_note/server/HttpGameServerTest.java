@@ -0,0 +1,127 @@
+package com.mycompany.tp_note.server;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HttpGameServerTest {
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private HttpGameServer server;
+    private String base;
+
+    private void start(String word) throws IOException {
+        server = new HttpGameServer(() -> word, 3);
+        base = "http://localhost:" + server.start(new InetSocketAddress("localhost", 0));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        server.close();
+    }
+
+    private HttpResponse<String> send(String method, String path) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(base + path))
+                .method(method, HttpRequest.BodyPublishers.noBody()).build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    @Test
+    public void testCreateGuessAndDelete() throws Exception {
+        start("JAVA");
+        HttpResponse<String> created = send("POST", "/games");
+        assertEquals(201, created.statusCode());
+        assertEquals("/games/1", created.headers().firstValue("Location").orElseThrow());
+        assertEquals("{\"id\":1,\"maskedWord\":\"____\",\"errorsCount\":0,\"maxErrors\":3,"
+                + "\"status\":\"PLAYING\",\"guessedLetters\":\"\"}", created.body());
+
+        assertEquals("{\"id\":1,\"maskedWord\":\"_A_A\",\"errorsCount\":0,\"maxErrors\":3,"
+                + "\"status\":\"PLAYING\",\"guessedLetters\":\"A\"}", send("POST", "/games/1/guess?letter=a").body());
+        send("POST", "/games/1/guess?letter=Z");
+        send("POST", "/games/1/guess?letter=J");
+        assertEquals("{\"id\":1,\"maskedWord\":\"JAVA\",\"errorsCount\":1,\"maxErrors\":3,"
+                + "\"status\":\"WON\",\"guessedLetters\":\"AJVZ\",\"secretWord\":\"JAVA\"}",
+                send("POST", "/games/1/guess?letter=V").body());
+        assertEquals(200, send("GET", "/games/1").statusCode());
+
+        assertEquals(1, server.getGameCount());
+        assertEquals(204, send("DELETE", "/games/1").statusCode());
+        assertEquals(0, server.getGameCount());
+        assertEquals(404, send("GET", "/games/1").statusCode());
+    }
+
+    @Test
+    public void testAccentedWordIsUtf8() throws Exception {
+        start("ÉTÉ");
+        send("POST", "/games?maxErrors=1");
+        assertEquals("{\"id\":1,\"maskedWord\":\"É_É\",\"errorsCount\":0,\"maxErrors\":1,"
+                + "\"status\":\"PLAYING\",\"guessedLetters\":\"E\"}", send("POST", "/games/1/guess?letter=%C3%A9").body());
+        assertTrue(send("POST", "/games/1/guess?letter=x").body().endsWith("\"status\":\"LOST\","
+                + "\"guessedLetters\":\"EX\",\"secretWord\":\"ÉTÉ\"}"));
+    }
+
+    @Test
+    public void testErrors() throws Exception {
+        start("JAVA");
+        assertEquals("{\"status\":\"UP\",\"games\":0}", send("GET", "/health").body());
+        assertEquals("{\"error\":\"invalid max errors\"}", send("POST", "/games?maxErrors=x").body());
+        assertEquals(400, send("POST", "/games?maxErrors=0").statusCode());
+        assertEquals(405, send("GET", "/games").statusCode());
+        assertEquals(404, send("GET", "/games/abc").statusCode());
+        assertEquals(404, send("GET", "/other").statusCode());
+        assertEquals("{\"error\":\"Unknown session: 9\"}", send("GET", "/games/9").body());
+
+        send("POST", "/games");
+        assertEquals(400, send("POST", "/games/1/guess").statusCode());
+        assertEquals(400, send("POST", "/games/1/guess?letter=ab").statusCode());
+        assertEquals(405, send("GET", "/games/1/guess?letter=a").statusCode());
+        assertEquals(404, send("POST", "/games/1/hint").statusCode());
+    }
+
+    @Test
+    public void testGameLimit() throws Exception {
+        server = new HttpGameServer(() -> "JAVA", 3, 1, Executors.newVirtualThreadPerTaskExecutor());
+        base = "http://localhost:" + server.start(new InetSocketAddress("localhost", 0));
+        assertEquals(201, send("POST", "/games").statusCode());
+        HttpResponse<String> refused = send("POST", "/games");
+        assertEquals(503, refused.statusCode());
+        assertEquals("{\"error\":\"too many games\"}", refused.body());
+
+        assertEquals(204, send("DELETE", "/games/1").statusCode());
+        assertEquals(201, send("POST", "/games").statusCode());
+    }
+
+    @Test
+    public void testConcurrentGames() throws Exception {
+        start("JAVA");
+        int games = 100;
+        for (int i = 0; i < games; i++) {
+            send("POST", "/games");
+        }
+        List<CompletableFuture<HttpResponse<String>>> guesses = new ArrayList<>();
+        for (int id = 1; id <= games; id++) {
+            for (char letter : "JAV".toCharArray()) {
+                guesses.add(client.sendAsync(HttpRequest.newBuilder(URI.create(base + "/games/" + id + "/guess?letter=" + letter))
+                        .POST(HttpRequest.BodyPublishers.noBody()).build(), HttpResponse.BodyHandlers.ofString()));
+            }
+        }
+        for (CompletableFuture<HttpResponse<String>> guess : guesses) {
+            assertEquals(200, guess.get().statusCode());
+        }
+        for (int id = 1; id <= games; id++) {
+            assertTrue(send("GET", "/games/" + id).body().contains("\"status\":\"WON\""));
+        }
+    }
+}
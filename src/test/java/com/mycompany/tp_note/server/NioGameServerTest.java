@@ -0,0 +1,158 @@
+package com.mycompany.tp_note.server;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class NioGameServerTest {
+
+    private NioGameServer server;
+    private int port;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        server = new NioGameServer(() -> "JAVA", 3, 2);
+        port = server.start(new InetSocketAddress("localhost", 0));
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        server.close();
+    }
+
+    /** Blocking test client. */
+    private final class Client implements AutoCloseable {
+        private final Socket socket;
+        private final BufferedReader in;
+        private final PrintWriter out;
+
+        Client() throws IOException {
+            socket = new Socket("localhost", port);
+            socket.setSoTimeout(10_000);
+            in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            out = new PrintWriter(socket.getOutputStream(), true, StandardCharsets.UTF_8);
+        }
+
+        String send(String line) throws IOException {
+            out.print(line + "\r\n");
+            out.flush();
+            return in.readLine();
+        }
+
+        @Override
+        public void close() throws IOException {
+            socket.close();
+        }
+    }
+
+    @Test
+    public void testPlayWinningGame() throws IOException {
+        try (Client client = new Client()) {
+            assertEquals("ERR no game, send NEW", client.send("STATE"));
+            assertEquals("STATE ____ 0 3 PLAYING -", client.send("NEW"));
+            assertEquals("STATE _A_A 0 3 PLAYING A", client.send("guess a"));
+            assertEquals("ALREADY A", client.send("GUESS A"));
+            assertEquals("STATE _A_A 1 3 PLAYING AZ", client.send("GUESS Z"));
+            assertEquals("STATE JA_A 1 3 PLAYING AJZ", client.send("GUESS J"));
+            assertEquals("END WON JAVA", client.send("GUESS V"));
+            assertEquals("ERR game over, send NEW", client.send("GUESS B"));
+            assertEquals("STATE JAVA 1 3 WON AJVZ", client.send("STATE"));
+            assertEquals("BYE", client.send("QUIT"));
+        }
+    }
+
+    @Test
+    public void testLongLineRejectedOnce() throws IOException {
+        try (Client client = new Client()) {
+            String line = "GUESS " + "A".repeat(3 * NioGameServer.MAX_LINE_BYTES);
+            assertEquals("ERR line too long", client.send(line));
+            assertEquals("ERR no game, send NEW", client.send("STATE"));
+        }
+    }
+
+    @Test
+    public void testErrorsAndLosingGame() throws IOException {
+        try (Client client = new Client()) {
+            assertEquals("ERR unknown command", client.send("HELLO"));
+            assertEquals("ERR no game, send NEW", client.send("GUESS A"));
+            assertEquals("ERR invalid max errors", client.send("NEW x"));
+            assertEquals("STATE ____ 0 1 PLAYING -", client.send("NEW 1"));
+            assertEquals("ERR expected one letter", client.send("GUESS 1"));
+            assertEquals("ERR expected one letter", client.send("GUESS AB"));
+            assertEquals("END LOST JAVA", client.send("GUESS X"));
+            assertEquals("STATE ____ 0 2 PLAYING -", client.send("NEW 2"));
+        }
+    }
+
+    @Test
+    public void testPipelinedCommands() throws IOException {
+        try (Client client = new Client()) {
+            client.out.print("NEW\nGUESS J\nGUESS A\nGUESS V\n");
+            client.out.flush();
+            assertEquals("STATE ____ 0 3 PLAYING -", client.in.readLine());
+            assertEquals("STATE J___ 0 3 PLAYING J", client.in.readLine());
+            assertEquals("STATE JA_A 0 3 PLAYING AJ", client.in.readLine());
+            assertEquals("END WON JAVA", client.in.readLine());
+        }
+    }
+
+    @Test
+    public void testClientNotReadingIsThrottled() throws Exception {
+        int commands = 50_000;
+        try (Client client = new Client()) {
+            // far more answers than the socket buffers hold: the writer blocks
+            // until the answers are read, instead of the server buffering them
+            Thread writer = Thread.ofVirtual().start(() -> {
+                for (int i = 0; i < commands; i++) {
+                    client.out.print("STATE\n");
+                }
+                client.out.print("QUIT\n");
+                client.out.flush();
+            });
+            for (int i = 0; i < commands; i++) {
+                assertEquals("ERR no game, send NEW", client.in.readLine());
+            }
+            assertEquals("BYE", client.in.readLine());
+            writer.join();
+        }
+    }
+
+    @Test
+    public void testManyConcurrentClients() throws Exception {
+        int clients = 200;
+        ExecutorService pool = Executors.newFixedThreadPool(16);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < clients; i++) {
+                results.add(pool.submit(() -> {
+                    try (Client client = new Client()) {
+                        client.send("NEW");
+                        client.send("GUESS J");
+                        client.send("GUESS A");
+                        return client.send("GUESS V");
+                    }
+                }));
+            }
+            for (Future<String> result : results) {
+                assertEquals("END WON JAVA", result.get());
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package com.mycompany.tp_note.server;
+
+import com.mycompany.tp_note.data.SharedDictionary;
+import com.mycompany.tp_note.data.WordProvider;
+import com.mycompany.tp_note.simulation.CandidateStrategy;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Load test of the game servers on the loopback interface.
+ * <p>
+ * Every client connects first, then all of them play their games at once,
+ * guessing letters in a fixed order, each on its own virtual thread. The
+ * report gives the game throughput and the latency of {@code NEW}, which
+ * includes the time a connection waits for a free thread: with a pool of
+ * platform threads smaller than the number of clients, most players wait
+ * for others to leave before their first game starts.
+ * </p>
+ * <p>
+ * Clients and server share the machine, so absolute figures are only
+ * comparable between configurations of the same run.
+ * </p>
+ * <p>
+ * This is a tool, not a test, and ships with the test sources only; run it
+ * with {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.mycompany.tp_note.server.ServerBenchmark}.
+ * </p>
+ */
+public final class ServerBenchmark {
+
+    private static final int MAX_ERRORS = 7;
+
+    /**
+     * Measured load.
+     *
+     * @param server       the server configuration
+     * @param clients      the number of concurrent clients
+     * @param games        the number of games played
+     * @param elapsedNanos wall-clock time from the start signal to the last game
+     * @param newLatencies the sorted {@code NEW} round trips, in nanoseconds
+     */
+    public record Result(String server, int clients, long games, long elapsedNanos, long[] newLatencies) {
+
+        /**
+         * Game throughput.
+         *
+         * @return games per second
+         */
+        public double gamesPerSecond() {
+            return elapsedNanos == 0 ? 0 : games / (elapsedNanos / 1e9);
+        }
+
+        /**
+         * Returns a {@code NEW} latency percentile.
+         *
+         * @param percent the percentile, 0 to 100
+         * @return the latency in milliseconds
+         */
+        public double newLatencyMillis(double percent) {
+            int i = (int) Math.ceil(percent / 100 * newLatencies.length) - 1;
+            return newLatencies[Math.max(0, Math.min(i, newLatencies.length - 1))] / 1e6;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-22s %6d clients %8d games %9.0f games/s  NEW p50 %7.2f ms  p99 %8.2f ms  max %8.2f ms",
+                    server, clients, games, gamesPerSecond(),
+                    newLatencyMillis(50), newLatencyMillis(99), newLatencyMillis(100));
+        }
+    }
+
+    private ServerBenchmark() {
+    }
+
+    /**
+     * Runs clients against a server already listening on the given port.
+     *
+     * @param name           the server description, for the report
+     * @param port           the server port on the loopback interface
+     * @param clients        the number of concurrent clients
+     * @param gamesPerClient the number of games each client plays
+     * @return the measured load
+     * @throws IOException if a client cannot connect or the server misbehaves
+     * @throws InterruptedException if interrupted while waiting for the clients
+     */
+    public static Result run(String name, int port, int clients, int gamesPerClient)
+            throws IOException, InterruptedException {
+        CountDownLatch connected = new CountDownLatch(clients);
+        CountDownLatch go = new CountDownLatch(1);
+        long[] latencies = new long[clients * gamesPerClient];
+        try (ExecutorService players = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> results = new ArrayList<>(clients);
+            for (int c = 0; c < clients; c++) {
+                int first = c * gamesPerClient;
+                results.add(players.submit(() -> {
+                    play(port, gamesPerClient, latencies, first, connected, go);
+                    return null;
+                }));
+            }
+            connected.await();
+            long start = System.nanoTime();
+            go.countDown();
+            for (Future<?> result : results) {
+                try {
+                    result.get();
+                } catch (ExecutionException e) {
+                    throw new IOException("Client failed: " + e.getCause(), e.getCause());
+                }
+            }
+            long elapsed = System.nanoTime() - start;
+            Arrays.sort(latencies);
+            return new Result(name, clients, (long) clients * gamesPerClient, elapsed, latencies);
+        }
+    }
+
+    private static void play(int port, int games, long[] latencies, int first,
+            CountDownLatch connected, CountDownLatch go) throws IOException, InterruptedException {
+        try (Socket socket = new Socket()) {
+            try {
+                socket.connect(new InetSocketAddress("localhost", port));
+            } finally {
+                connected.countDown();
+            }
+            socket.setTcpNoDelay(true);
+            BufferedReader in = new BufferedReader(
+                    new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            OutputStream out = socket.getOutputStream();
+            go.await();
+            for (int g = 0; g < games; g++) {
+                long sent = System.nanoTime();
+                String reply = send(out, in, "NEW " + MAX_ERRORS);
+                latencies[first + g] = System.nanoTime() - sent;
+                for (int i = 0; !reply.startsWith("END"); i++) {
+                    if (!reply.startsWith("STATE") || i == CandidateStrategy.FRENCH_ORDER.length()) {
+                        throw new IOException("Unexpected reply: " + reply);
+                    }
+                    reply = send(out, in, "GUESS " + CandidateStrategy.FRENCH_ORDER.charAt(i));
+                }
+            }
+            send(out, in, "QUIT");
+        }
+    }
+
+    private static String send(OutputStream out, BufferedReader in, String command) throws IOException {
+        out.write((command + "\n").getBytes(StandardCharsets.UTF_8));
+        out.flush();
+        String reply = in.readLine();
+        if (reply == null) {
+            throw new IOException("Connection closed by the server.");
+        }
+        return reply;
+    }
+
+    /**
+     * Command-line entry point:
+     * {@code ServerBenchmark [clients] [gamesPerClient] [poolThreads]},
+     * comparing one virtual thread per session, a pool of platform threads
+     * and the non-blocking server, all serving the shared dictionary
+     * (1000 clients, 20 games each and 100 pool threads by default).
+     *
+     * @param args the load and pool size
+     * @throws IOException if the dictionary cannot be loaded or a run fails
+     * @throws InterruptedException if interrupted while running
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int clients = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        int games = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+        int threads = args.length > 2 ? Integer.parseInt(args[2]) : 100;
+        WordProvider words = SharedDictionary.getInstance();
+        InetSocketAddress loopback = new InetSocketAddress("localhost", 0);
+
+        try (BlockingGameServer server = BlockingGameServer.withVirtualThreads(words, MAX_ERRORS)) {
+            int port = server.start(loopback);
+            // warm-up, so that the first configuration is not measured before JIT compilation
+            run("warm-up", port, Math.min(clients, 100), games);
+            System.out.println(run("virtual threads", port, clients, games));
+        }
+        try (BlockingGameServer server = BlockingGameServer.withPlatformThreads(words, MAX_ERRORS, threads)) {
+            System.out.println(run(threads + " platform threads", server.start(loopback), clients, games));
+        }
+        int workers = Runtime.getRuntime().availableProcessors();
+        try (NioGameServer server = new NioGameServer(words, MAX_ERRORS, workers)) {
+            System.out.println(run("NIO, " + workers + " selector(s)", server.start(loopback), clients, games));
+        }
+    }
+}
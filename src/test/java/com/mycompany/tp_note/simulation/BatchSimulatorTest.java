@@ -0,0 +1,127 @@
+package com.mycompany.tp_note.simulation;
+
+import com.mycompany.tp_note.data.DictionaryLoader;
+import com.mycompany.tp_note.data.DictionaryWordProvider;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BatchSimulatorTest {
+
+    private static final String ALPHABET = "ABCDEFGHIJKLMNOPQRSTUVWXYZ";
+
+    private static DictionaryWordProvider dictionary(String words) throws IOException {
+        return new DictionaryWordProvider(new DictionaryLoader()
+                .load(new ByteArrayInputStream(words.getBytes(StandardCharsets.UTF_8))));
+    }
+
+    @Test
+    public void testAggregatesPerWordAndLength() throws IOException {
+        BatchSimulator simulator = new BatchSimulator(dictionary("abc\nxyz\nété\nabcd\n"));
+        SimulationResult result = simulator.run("alphabet", () -> GuessingStrategy.inOrder(ALPHABET), 3, 2);
+
+        assertEquals(8, result.getGames());
+        assertEquals(2, result.getGamesPerWord());
+        assertEquals(4, result.getWins());
+        assertEquals(1.0, result.winRate(0));
+        assertEquals(0.0, result.winRate(1));
+        assertEquals(0.0, result.winRate(2));
+        assertEquals(Map.of(3, 1.0 / 3, 4, 1.0), result.winRateByLength());
+        assertTrue(result.gamesPerSecond() > 0);
+    }
+
+    @Test
+    public void testRunAllCoversStrategiesAndErrorLimits() throws IOException {
+        BatchSimulator simulator = new BatchSimulator(dictionary("xyz\nété\n"));
+        Map<String, Supplier<GuessingStrategy>> strategies = new LinkedHashMap<>();
+        strategies.put("alphabet", () -> GuessingStrategy.inOrder(ALPHABET));
+        strategies.put("reverse", () -> GuessingStrategy.inOrder(new StringBuilder(ALPHABET).reverse().toString()));
+
+        List<SimulationResult> results = simulator.runAll(strategies, new int[] { 3, 26 }, 1);
+        assertEquals(4, results.size());
+        assertEquals("alphabet", results.get(0).getStrategy());
+        assertEquals(0, results.get(0).getWins());
+        assertEquals(26, results.get(1).getMaxErrors());
+        assertEquals(2, results.get(1).getWins());
+        assertEquals(1, results.get(2).getWins());
+    }
+
+    @Test
+    public void testManyWordsInParallel() throws IOException {
+        DictionaryWordProvider words = new DictionaryWordProvider();
+        SimulationResult result = new BatchSimulator(words)
+                .run("alphabet", () -> GuessingStrategy.inOrder(ALPHABET), 26, 1);
+        assertEquals(words.getSize(), result.getWins());
+    }
+
+    @Test
+    public void testRepeatedGuessIsRejected() throws IOException {
+        BatchSimulator simulator = new BatchSimulator(dictionary("java\n"));
+        assertThrows(IllegalStateException.class, () -> simulator.run("stuck", () -> state -> 'X', 5, 1));
+        assertThrows(IllegalArgumentException.class, () -> GuessingStrategy.inOrder("ABC"));
+    }
+
+    @Test
+    public void testSeededSampleReplaysOnAnyThreadCount() throws IOException {
+        DictionaryWordProvider words = new DictionaryWordProvider();
+        ForkJoinPool single = new ForkJoinPool(1);
+        ForkJoinPool several = new ForkJoinPool(3);
+        try {
+            SimulationResult a = new BatchSimulator(words, single).sample("random", RandomStrategy::new, 8, 5_000, 42);
+            SimulationResult b = new BatchSimulator(words, several).sample("random", RandomStrategy::new, 8, 5_000, 42);
+            SimulationResult c = new BatchSimulator(words, several).sample("random", RandomStrategy::new, 8, 5_000, 43);
+            assertEquals(5_000, a.getGames());
+            assertEquals(0, a.getGamesPerWord());
+            assertEquals(a.getWins(), b.getWins());
+            for (int i = 0; i < words.getSize(); i++) {
+                assertEquals(a.getGames(i), b.getGames(i));
+                assertEquals(a.getWins(i), b.getWins(i));
+            }
+            assertEquals(a.winRateByLength(), b.winRateByLength());
+            assertNotEquals(a.winRateByLength(), c.winRateByLength());
+        } finally {
+            single.shutdown();
+            several.shutdown();
+        }
+    }
+
+    @Test
+    public void testSeededRunIsReproducible() throws IOException {
+        BatchSimulator simulator = new BatchSimulator(dictionary("abc\nxyz\nété\nabcd\njava\n"));
+        SimulationResult a = simulator.run("random", RandomStrategy::new, 10, 50, 7);
+        SimulationResult b = simulator.run("random", RandomStrategy::new, 10, 50, 7);
+        assertEquals(250, a.getGames());
+        assertEquals(50, a.getGames(4));
+        for (int i = 0; i < 5; i++) {
+            assertEquals(a.getWins(i), b.getWins(i));
+        }
+    }
+
+    @Test
+    public void testSeededRunReplaysOnAnyThreadCount() throws IOException {
+        DictionaryWordProvider words = new DictionaryWordProvider();
+        ForkJoinPool single = new ForkJoinPool(1);
+        ForkJoinPool several = new ForkJoinPool(3);
+        try {
+            // 3 games per word: task ranges are cut between words, never inside one
+            SimulationResult a = new BatchSimulator(words, single).run("random", RandomStrategy::new, 8, 3, 5);
+            SimulationResult b = new BatchSimulator(words, several).run("random", RandomStrategy::new, 8, 3, 5);
+            assertEquals(3L * words.getSize(), b.getGames());
+            for (int i = 0; i < words.getSize(); i++) {
+                assertEquals(a.getWins(i), b.getWins(i));
+            }
+        } finally {
+            single.shutdown();
+            several.shutdown();
+        }
+    }
+}
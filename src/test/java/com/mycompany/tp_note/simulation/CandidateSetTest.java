@@ -0,0 +1,63 @@
+package com.mycompany.tp_note.simulation;
+
+import com.mycompany.tp_note.data.PatternIndex;
+import com.mycompany.tp_note.engine.HangmanGame;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CandidateSetTest {
+
+    private static final PatternIndex INDEX =
+            new PatternIndex(List.of("PAPA", "MAMA", "JAVA", "CODE", "TATA", "ANANAS"));
+
+    private static List<String> words(CandidateSet set) {
+        List<String> words = new ArrayList<>();
+        for (int i = 0; i < set.size(); i++) {
+            words.add(set.word(i));
+        }
+        return words;
+    }
+
+    @Test
+    public void testIncrementalUpdatesMatchFullRecompute() {
+        HangmanGame game = new HangmanGame("Java", 10);
+        CandidateSet set = new CandidateSet(INDEX);
+        set.reset(game.getState());
+        assertEquals(List.of("PAPA", "MAMA", "JAVA", "CODE", "TATA"), words(set));
+
+        game.guessLetter('A');
+        game.guessLetter('P');
+        set.update(game.getState());
+        assertEquals(List.of("MAMA", "JAVA", "TATA"), words(set));
+
+        game.guessLetter('E');
+        set.update(game.getState());
+        CandidateSet fresh = new CandidateSet(INDEX);
+        fresh.reset(game.getState());
+        assertEquals(words(fresh), words(set));
+        assertEquals(2, set.id(1));
+    }
+
+    @Test
+    public void testCountWordsPerLetter() {
+        CandidateSet set = new CandidateSet(INDEX);
+        set.reset(new HangmanGame("JAVA", 10).getState());
+        int[] counts = new int[26];
+        set.countWordsPerLetter(counts);
+        assertEquals(4, counts[0]);
+        assertEquals(1, counts['P' - 'A']);
+        assertEquals(0, counts['N' - 'A']);
+    }
+
+    @Test
+    public void testUnknownWordLeavesNoCandidate() {
+        HangmanGame game = new HangmanGame("ZOO", 10);
+        CandidateSet set = new CandidateSet(INDEX);
+        set.reset(game.getState());
+        assertEquals(0, set.size());
+    }
+}
@@ -0,0 +1,68 @@
+package com.mycompany.tp_note.simulation;
+
+import com.mycompany.tp_note.data.PatternIndex;
+import com.mycompany.tp_note.engine.HangmanGame;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GuessingStrategyTest {
+
+    private static final List<String> WORDS = List.of("PAPA", "MAMA", "JAVA", "CODE", "TATA");
+    private static final PatternIndex INDEX = new PatternIndex(WORDS);
+    private static final List<Function<PatternIndex, CandidateStrategy>> STRATEGIES =
+            List.of(FrequencyStrategy::new, PositionalStrategy::new, EntropyStrategy::new);
+
+    @Test
+    public void testEveryStrategyWinsEveryDictionaryWord() {
+        // each miss removes at least one of the 5 candidates
+        for (Function<PatternIndex, CandidateStrategy> factory : STRATEGIES) {
+            CandidateStrategy strategy = factory.apply(INDEX);
+            for (String word : WORDS) {
+                assertTrue(BatchSimulator.play(new HangmanGame(word, 5), strategy, new SplittableRandom(1)),
+                        strategy.getClass().getSimpleName() + " lost " + word);
+            }
+        }
+    }
+
+    @Test
+    public void testFirstGuessIsMostCommonLetter() {
+        for (Function<PatternIndex, CandidateStrategy> factory : STRATEGIES) {
+            assertEquals('A', factory.apply(INDEX).nextGuess(new HangmanGame("CODE", 5).getState()));
+        }
+    }
+
+    @Test
+    public void testPositionalPrefersLetterRevealingMorePositions() {
+        PatternIndex index = new PatternIndex(List.of("EEEX", "ABCD", "ABCE"));
+        HangmanGame game = new HangmanGame("ABCD", 5);
+        assertEquals('E', new PositionalStrategy(index).nextGuess(game.getState()));
+        assertEquals('A', new FrequencyStrategy(index).nextGuess(game.getState()));
+    }
+
+    @Test
+    public void testEntropyPrefersEvenSplit() {
+        PatternIndex index = new PatternIndex(List.of("AB", "AC", "AD", "BD"));
+        HangmanGame game = new HangmanGame("AB", 5);
+        // A: 3/1 split, B and D: 2/2 splits
+        assertEquals('B', new EntropyStrategy(index).nextGuess(game.getState()));
+        assertEquals('A', new FrequencyStrategy(index).nextGuess(game.getState()));
+    }
+
+    @Test
+    public void testHintMidGameAndFallback() {
+        HangmanGame game = new HangmanGame("JAVA", 5);
+        game.guessLetter('A');
+        game.guessLetter('P');
+        game.guessLetter('M');
+        // JAVA or TATA: J, T and V split them evenly, ties go to the first letter
+        assertEquals('J', new EntropyStrategy(INDEX).nextGuess(game.getState()));
+
+        CandidateStrategy strategy = new FrequencyStrategy(INDEX);
+        assertTrue(BatchSimulator.play(new HangmanGame("XYZ", 26), strategy, new SplittableRandom(1)));
+    }
+}